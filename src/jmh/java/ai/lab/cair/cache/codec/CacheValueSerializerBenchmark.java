@@ -0,0 +1,176 @@
+package ai.lab.cair.cache.codec;
+
+import ai.lab.cair.cache.CacheEntry;
+import ai.lab.cair.dto.response.ProjectResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost and encoded size of a cached ProjectResponseDto per codec. CARD is the short view
+ * list pages cache, FULL the projectById entry; sizes are reported by {@link #size} as "size:bytes".
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"JSON", "JSON_LZ4", "SMILE", "SMILE_LZ4"})
+    private String format;
+
+    @Param({"CARD", "FULL"})
+    private String view;
+
+    private CacheValueSerializer serializer;
+    private CacheEntry entry;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("ai.lab.cair.")
+                .allowIfSubType("java.util.")
+                .build(), ObjectMapper.DefaultTyping.NON_FINAL);
+
+        CacheCodec codec = format.startsWith("SMILE") ? CacheCodec.SMILE : CacheCodec.JSON;
+        int threshold = format.endsWith("LZ4") ? 1024 : -1;
+        serializer = new CacheValueSerializer(objectMapper, codec, threshold);
+
+        entry = new CacheEntry(view.equals("FULL") ? fullProject() : card(), System.currentTimeMillis());
+        encoded = serializer.serialize(entry);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    // EVENTS counters are summed over iterations, so a single shot reports exactly one entry's size
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] size(EncodedSize size) {
+        byte[] bytes = serializer.serialize(entry);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    // What /projects caches per row: no fullDescription, objectives or results
+    private static ProjectResponseDto card() {
+        return ProjectResponseDto.builder()
+                .id(42L)
+                .slug("kazakh-speech-recognition")
+                .title(new ProjectResponseDto.TitleDto(
+                        "Kazakh speech recognition",
+                        "Распознавание казахской речи",
+                        "Қазақ тілінде сөйлеуді тану"))
+                .shortDescription(new ProjectResponseDto.ShortDescriptionDto(
+                        "Open speech recognition models and a transcribed corpus for Kazakh, including "
+                                + "code-switched Kazakh-Russian speech.",
+                        "Открытые модели распознавания речи и размеченный корпус для казахского языка, "
+                                + "включая смешанную казахско-русскую речь.",
+                        "Қазақ тіліне арналған ашық сөйлеуді тану модельдері мен белгіленген корпус, "
+                                + "оның ішінде қазақ-орыс аралас сөйлеу."))
+                .image("https://cdn.example.com/projects/kazakh-speech-recognition/cover.webp")
+                .tags(new ArrayList<>(List.of("speech", "asr", "kazakh", "datasets")))
+                .status("active")
+                .startDate(LocalDate.of(2024, 9, 1))
+                .endDate(LocalDate.of(2026, 8, 31))
+                .team(new ArrayList<>(List.of("1", "4", "7", "12")))
+                .createdAt(LocalDateTime.of(2024, 9, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 3, 14, 16, 30))
+                .build();
+    }
+
+    // What projectById caches: the card plus the long three-language fields
+    private static ProjectResponseDto fullProject() {
+        ProjectResponseDto project = card();
+        project.setFullDescription(new ProjectResponseDto.FullDescriptionDto(
+                "Most commercial speech recognition systems handle Kazakh poorly, especially in everyday "
+                        + "conversation where speakers switch between Kazakh and Russian within one sentence. "
+                        + "The project collects and transcribes 1,200 hours of broadcast, interview and "
+                        + "call-center audio from all regions of the country, with speaker age, gender and "
+                        + "dialect annotated for every recording.\n\n"
+                        + "On top of the corpus we train and publish end-to-end models sized for both server "
+                        + "and on-device use, together with a language model adapted to Kazakh morphology. "
+                        + "Evaluation follows a public benchmark with separate test sets for read speech, "
+                        + "spontaneous speech and code-switching, so that results from other groups can be "
+                        + "compared directly.",
+                "Большинство коммерческих систем распознавания речи плохо справляются с казахским языком, "
+                        + "особенно в бытовой речи, где говорящие переходят с казахского на русский в пределах "
+                        + "одного предложения. В рамках проекта собирается и расшифровывается 1200 часов "
+                        + "эфирных записей, интервью и звонков в колл-центры из всех регионов страны, для каждой "
+                        + "записи размечены возраст, пол и диалект говорящего.\n\n"
+                        + "На основе корпуса обучаются и публикуются сквозные модели для серверного и локального "
+                        + "применения, а также языковая модель, учитывающая морфологию казахского языка. Оценка "
+                        + "проводится на открытом бенчмарке с отдельными тестовыми наборами для чтения, "
+                        + "спонтанной речи и смешения языков, чтобы результаты других групп можно было сравнить "
+                        + "напрямую.",
+                "Коммерциялық сөйлеуді тану жүйелерінің көбі қазақ тілін нашар таниды, әсіресе сөйлеушілер "
+                        + "бір сөйлемнің ішінде қазақ тілінен орыс тіліне ауысатын күнделікті әңгімеде. Жоба "
+                        + "аясында елдің барлық өңірлерінен эфир жазбалары, сұхбаттар мен байланыс орталығына "
+                        + "қоңыраулардың 1200 сағаты жиналып, мәтінге түсіріледі, әр жазбада сөйлеушінің жасы, "
+                        + "жынысы және диалектісі белгіленеді.\n\n"
+                        + "Корпус негізінде сервер мен құрылғыда қолдануға арналған модельдер, сондай-ақ қазақ "
+                        + "тілінің морфологиясын ескеретін тілдік модель оқытылып, жарияланады. Бағалау оқылған "
+                        + "сөйлеу, еркін сөйлеу және тілдерді араластыру үшін бөлек сынақ жиындары бар ашық "
+                        + "бенчмаркта жүргізіледі, осылайша басқа топтардың нәтижелерін тікелей салыстыруға болады."));
+        project.setObjectives(new ProjectResponseDto.ObjectivesDto(
+                List.of("Collect and transcribe 1,200 hours of Kazakh and code-switched speech",
+                        "Release server and on-device recognition models under an open license",
+                        "Publish a benchmark with read, spontaneous and code-switched test sets"),
+                List.of("Собрать и расшифровать 1200 часов казахской и смешанной речи",
+                        "Выпустить серверные и локальные модели распознавания под открытой лицензией",
+                        "Опубликовать бенчмарк с наборами для чтения, спонтанной речи и смешения языков"),
+                List.of("Қазақ және аралас сөйлеудің 1200 сағатын жинап, мәтінге түсіру",
+                        "Сервер мен құрылғыға арналған тану модельдерін ашық лицензиямен шығару",
+                        "Оқылған, еркін және аралас сөйлеу жиындары бар бенчмаркты жариялау")));
+        project.setResults(new ProjectResponseDto.ResultsDto(
+                List.of("800 hours transcribed and released as the first corpus version",
+                        "Word error rate on spontaneous speech reduced from 31% to 18%"),
+                List.of("Расшифровано 800 часов, опубликована первая версия корпуса",
+                        "Доля ошибок по словам на спонтанной речи снижена с 31% до 18%"),
+                List.of("800 сағат мәтінге түсіріліп, корпустың алғашқы нұсқасы жарияланды",
+                        "Еркін сөйлеудегі сөз қателерінің үлесі 31%-дан 18%-ға дейін төмендеді")));
+        return project;
+    }
+}
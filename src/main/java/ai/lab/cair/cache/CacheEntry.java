@@ -0,0 +1,29 @@
+package ai.lab.cair.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Envelope stored in both cache tiers so refresh-ahead knows how old an entry is.
+ * Not final on purpose: the typed cache serializer only writes type ids for non-final classes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry {
+    private Object value;
+    private long writtenAt;
+
+    static CacheEntry of(Object value) {
+        return new CacheEntry(value, System.currentTimeMillis());
+    }
+
+    // Values written before the envelope existed have no known age and are never refreshed early
+    static CacheEntry unwrap(Object stored) {
+        if (stored instanceof CacheEntry entry) {
+            return entry;
+        }
+        return new CacheEntry(stored, Long.MAX_VALUE);
+    }
+}
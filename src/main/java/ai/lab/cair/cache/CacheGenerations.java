@@ -0,0 +1,59 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-cache namespace generation stored in Redis. Keys are written under the current generation,
+ * so "evict all" is a single INCR; entries of older generations are never read again and expire by TTL.
+ * <p>
+ * Reads and writes both use the locally cached generation, so they always agree on the namespace and
+ * a lookup costs a single Redis round trip. The cached value is dropped as soon as another node
+ * announces a clear over the invalidation channel; app.cache.generation-refresh only bounds how long a
+ * node that lost that announcement keeps using the old generation.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheGenerations {
+    private static final String KEY_PREFIX = "cair:cache:gen:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NearCacheProperties properties;
+    private final ConcurrentMap<String, Generation> generations = new ConcurrentHashMap<>();
+
+    public long current(String cacheName) {
+        Generation generation = generations.get(cacheName);
+        long now = System.currentTimeMillis();
+        if (generation != null && now - generation.fetchedAt() < properties.getGenerationRefresh().toMillis()) {
+            return generation.value();
+        }
+
+        return fetch(cacheName, now);
+    }
+
+    public long next(String cacheName) {
+        Long value = redisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        long generation = value == null ? 0 : value;
+        generations.put(cacheName, new Generation(generation, System.currentTimeMillis()));
+        return generation;
+    }
+
+    public void forget(String cacheName) {
+        generations.remove(cacheName);
+    }
+
+    private long fetch(String cacheName, long now) {
+        String stored = redisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        long value = stored == null ? 0 : Long.parseLong(stored);
+        generations.put(cacheName, new Generation(value, now));
+        return value;
+    }
+
+    private record Generation(long value, long fetchedAt) {
+    }
+}
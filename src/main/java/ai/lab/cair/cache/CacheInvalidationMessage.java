@@ -0,0 +1,10 @@
+package ai.lab.cair.cache;
+
+/**
+ * Pub/sub payload telling other nodes to drop L1 entries. A null key means "clear the whole cache".
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,108 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.dto.base.PageCursor;
+import ai.lab.cair.dto.base.ProjectFilter;
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Key builders referenced from @Cacheable SpEL expressions.
+ */
+public final class CacheKeys {
+    private CacheKeys() {
+    }
+
+    // e.g. "0:10:id,ASC"
+    public static String page(Pageable pageable) {
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + sort(pageable.getSort());
+    }
+
+    // e.g. "0:10:id,ASC:summary" or "0:10:id,ASC:FULL_DESCRIPTION+OBJECTIVES"
+    public static String page(Pageable pageable, Set<TranslationField> fields) {
+        return page(pageable) + ":" + fields(fields);
+    }
+
+    // e.g. "scroll:10:eyJzb3J0Qnki..."; the encoded cursor carries the sort order and position
+    public static String scroll(PageCursor cursor, int size) {
+        return "scroll:" + size + ":" + cursor.encode();
+    }
+
+    public static String scroll(PageCursor cursor, int size, Set<TranslationField> fields) {
+        return scroll(cursor, size) + ":" + fields(fields);
+    }
+
+    // e.g. "teamMember:5:summary"; the projects of one team member
+    public static String teamMember(Long teamMemberId, Set<TranslationField> fields) {
+        return "teamMember:" + teamMemberId + ":" + fields(fields);
+    }
+
+    // e.g. "0:10:id,ASC:summary:tags=ml,nlp"; values as given by FilterValues.parse, no suffix when empty
+    public static String filtered(String key, String name, List<String> values) {
+        return values.isEmpty() ? key : key + ":" + name + "=" + String.join(",", values);
+    }
+
+    // e.g. "0:10:id,ASC:summary:status=active;tags=ml"
+    public static String filtered(String key, ProjectFilter filter) {
+        return filter.isEmpty() ? key : key + ":" + filter.key();
+    }
+
+    // e.g. "count:status=active;startFrom=2025-01-01"; a filtered project total, in the "projects" cache
+    public static String count(ProjectFilter filter) {
+        return "count:" + filter.key();
+    }
+
+    // e.g. "count:expertise=ml,nlp"; a filtered team member total, in the "teamMembers" cache
+    public static String count(String name, List<String> values) {
+        return "count:" + name + "=" + String.join(",", values);
+    }
+
+    // e.g. "5:EN" or "0:10:id,ASC:summary:EN"
+    public static String localized(Object key, LanguageCode language) {
+        return key + ":" + language.name();
+    }
+
+    // Inverse of localized(id, language) for by-id keys, e.g. "5:EN"
+    public static Localized parseLocalized(Object key) {
+        String value = String.valueOf(key);
+        int separator = value.lastIndexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Not a localized key: " + value);
+        }
+        return new Localized(Long.parseLong(value.substring(0, separator)),
+                LanguageCode.valueOf(value.substring(separator + 1)));
+    }
+
+    public record Localized(long id, LanguageCode language) {
+    }
+
+    private static String fields(Set<TranslationField> fields) {
+        if (fields.equals(ProjectFields.SUMMARY)) {
+            return "summary";
+        }
+        if (fields.equals(ProjectFields.ALL)) {
+            return "all";
+        }
+        // EnumSet iteration order is stable, so equal sets give equal keys
+        return EnumSet.copyOf(fields).stream()
+                .filter(field -> !ProjectFields.SUMMARY.contains(field))
+                .map(Enum::name)
+                .collect(Collectors.joining("+"));
+    }
+
+    private static String sort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "unsorted";
+        }
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection())
+                .collect(Collectors.joining(";"));
+    }
+}
@@ -0,0 +1,58 @@
+package ai.lab.cair.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-cache counters (hits/misses per tier, loads, evictions). Exposed through GET /cache/stats.
+ */
+@Component
+public class CacheMetrics {
+    public static final String L1_HIT = "l1.hit";
+    public static final String L1_MISS = "l1.miss";
+    public static final String L2_HIT = "l2.hit";
+    public static final String L2_MISS = "l2.miss";
+    public static final String EVICT = "evict";
+    public static final String CLEAR = "clear";
+    public static final String REMOTE_INVALIDATION = "remote.invalidation";
+    public static final String LOAD = "load";
+    public static final String COALESCED = "coalesced";
+    public static final String COALESCED_REMOTE = "coalesced.remote";
+    public static final String REFRESH = "refresh";
+    public static final String REFRESH_FAILED = "refresh.failed";
+    public static final String REFRESH_REJECTED = "refresh.rejected";
+    public static final String RESPONSE_HIT = "response.hit";
+    public static final String RESPONSE_MISS = "response.miss";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> counters = new ConcurrentHashMap<>();
+
+    public void increment(String cacheName, String counter) {
+        counters.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(counter, name -> new LongAdder())
+                .increment();
+    }
+
+    public long get(String cacheName, String counter) {
+        Map<String, LongAdder> cacheCounters = counters.get(cacheName);
+        if (cacheCounters == null) {
+            return 0;
+        }
+        LongAdder adder = cacheCounters.get(counter);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+        counters.forEach((cacheName, cacheCounters) -> {
+            Map<String, Long> values = new TreeMap<>();
+            cacheCounters.forEach((counter, adder) -> values.put(counter, adder.sum()));
+            snapshot.put(cacheName, values);
+        });
+        return snapshot;
+    }
+}
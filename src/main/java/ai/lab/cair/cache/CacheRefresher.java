@@ -0,0 +1,101 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded executor for refresh-ahead reloads. At most one reload per cache key is queued at a time;
+ * when the queue is full the refresh is skipped and the entry simply expires as before.
+ * <p>
+ * Values are rebuilt by the {@link CacheReloader} bean registered for the cache; caches without one are
+ * never refreshed ahead.
+ */
+@Slf4j
+@Component
+public class CacheRefresher {
+    private final CacheMetrics metrics;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Reloaders are services that depend on the cache manager, so they are resolved on first use
+    private final ObjectProvider<CacheReloader> reloaderProvider;
+    private volatile Map<String, CacheReloader> reloaders;
+
+    public CacheRefresher(CacheMetrics metrics, NearCacheProperties properties,
+                          ObjectProvider<CacheReloader> reloaderProvider) {
+        this.metrics = metrics;
+        this.reloaderProvider = reloaderProvider;
+        NearCacheProperties.RefreshAhead config = properties.getRefreshAhead();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                config.getThreads(), config.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void refresh(String cacheName, Object key, Consumer<Object> store) {
+        CacheReloader reloader = reloaders().get(cacheName);
+        if (reloader == null) {
+            return;
+        }
+        String refreshKey = cacheName + "::" + TwoLevelCache.localKey(key);
+        if (!pending.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(reloader.reload(cacheName, key));
+                    metrics.increment(cacheName, CacheMetrics.REFRESH);
+                } catch (Exception e) {
+                    metrics.increment(cacheName, CacheMetrics.REFRESH_FAILED);
+                    log.warn("Refresh-ahead of {} failed: {}", refreshKey, e.getMessage());
+                } finally {
+                    pending.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(refreshKey);
+            metrics.increment(cacheName, CacheMetrics.REFRESH_REJECTED);
+        }
+    }
+
+    private Map<String, CacheReloader> reloaders() {
+        Map<String, CacheReloader> current = reloaders;
+        if (current == null) {
+            current = new HashMap<>();
+            for (CacheReloader reloader : reloaderProvider) {
+                for (String cacheName : reloader.reloadableCaches()) {
+                    current.put(cacheName, reloader);
+                }
+            }
+            reloaders = current;
+        }
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,14 @@
+package ai.lab.cair.cache;
+
+import java.util.Set;
+
+/**
+ * Rebuilds a cache entry from its key alone, for refresh-ahead. Implementations are beans looked up by
+ * {@link CacheRefresher} and called through their proxy, so a reload runs in the implementation's own
+ * transaction rather than replaying the request's cached method invocation on another thread.
+ */
+public interface CacheReloader {
+    Set<String> reloadableCaches();
+
+    Object reload(String cacheName, Object key);
+}
@@ -0,0 +1,39 @@
+package ai.lab.cair.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final JSON bytes of a response plus the validators they were served with. The buffers wrap heap arrays,
+ * so an evicted entry is reclaimed by the GC like any other; they are read-only and shared, and writers
+ * always work on a duplicate.
+ */
+record CachedResponse(ByteBuffer body, ByteBuffer gzipBody, String etag, long lastModified) {
+
+    static CachedResponse of(byte[] json, ResourceVersion version, int gzipThreshold) {
+        ByteBuffer gzipBody = gzipThreshold >= 0 && json.length > gzipThreshold ? readOnly(gzip(json)) : null;
+        return new CachedResponse(readOnly(json), gzipBody, version.getEtag(), version.getLastModified());
+    }
+
+    // Bytes held by the entry, used as its weight in the bounded response cache
+    int size() {
+        return body.capacity() + (gzipBody != null ? gzipBody.capacity() : 0);
+    }
+
+    private static ByteBuffer readOnly(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serves public GET responses from the pre-serialized body tier of a {@link TwoLevelCache}. A hit is
+ * copied straight to the servlet output stream, with no Jackson work at all.
+ * <p>
+ * Bodies are encoded with the same message converter Spring MVC would pick, so cached and uncached
+ * responses are byte-for-byte identical.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedResponses {
+    // The gzip representation is a different entity, so it gets its own strong ETag
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final TwoLevelCacheManager cacheManager;
+    private final NearCacheProperties properties;
+    private final CacheMetrics metrics;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    /**
+     * Full read path of a cached GET: the pre-serialized body, then the loader (normally a DTO cache hit).
+     * {@code versioner} derives the validators from the body being sent, so they always describe it; a 304
+     * is answered by comparing against them.
+     */
+    public <T> ResponseEntity<T> get(String cacheName, Object key, ServletWebRequest request,
+                                     Supplier<T> loader, Function<T, ResourceVersion> versioner) throws IOException {
+        TwoLevelCache cache = responseCache(cacheName);
+        if (cache == null) {
+            T body = loader.get();
+            ResourceVersion version = versioner.apply(body);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(version.getEtag());
+            if (version.getLastModified() > 0) {
+                builder.lastModified(version.getLastModified());
+            }
+            return builder.body(body);
+        }
+        if (serve(cache, cacheName, key, request)) {
+            return null;
+        }
+
+        // Taken before the load: an eviction racing it must not leave the old body cached
+        long epoch = cache.epoch();
+        T body = loader.get();
+        CachedResponse cached = CachedResponse.of(encode(body), versioner.apply(body),
+                properties.getResponses().getGzipThreshold());
+        cache.putResponse(key, cached, epoch);
+        write(cached, request);
+        return null;
+    }
+
+    // Writes the cached body (or a 304) for the key, if there is one
+    private boolean serve(TwoLevelCache cache, String cacheName, Object key, ServletWebRequest request)
+            throws IOException {
+        CachedResponse cached = cache.getResponse(key);
+        if (cached == null) {
+            metrics.increment(cacheName, CacheMetrics.RESPONSE_MISS);
+            return false;
+        }
+        metrics.increment(cacheName, CacheMetrics.RESPONSE_HIT);
+        write(cached, request);
+        return true;
+    }
+
+    private TwoLevelCache responseCache(String cacheName) {
+        if (!properties.getResponses().isEnabled()) {
+            return null;
+        }
+        return cacheManager.getCache(cacheName) instanceof TwoLevelCache cache ? cache : null;
+    }
+
+    private void write(CachedResponse cached, ServletWebRequest request) throws IOException {
+        boolean gzip = cached.gzipBody() != null && acceptsGzip(request);
+        String etag = gzip ? cached.etag() + GZIP_ETAG_SUFFIX : cached.etag();
+        // Sets ETag / Last-Modified, and the 304 status on a match
+        if (request.checkNotModified(etag, cached.lastModified())) {
+            return;
+        }
+
+        HttpServletResponse response = request.getResponse();
+        ByteBuffer body = (gzip ? cached.gzipBody() : cached.body()).duplicate();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.remaining());
+        if (cached.gzipBody() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(ServletWebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] encode(Object body) throws IOException {
+        for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+            if (converter.canWrite(body.getClass(), MediaType.APPLICATION_JSON)) {
+                BufferedOutputMessage message = new BufferedOutputMessage();
+                ((HttpMessageConverter<Object>) converter).write(body, MediaType.APPLICATION_JSON, message);
+                return message.body.toByteArray();
+            }
+        }
+        throw new IllegalStateException("No JSON message converter for " + body.getClass().getName());
+    }
+
+    private static class BufferedOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.repository.ProjectRepository;
+import ai.lab.cair.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row counts for the paginated list responses, so a page read needs no COUNT(*).
+ * <p>
+ * Counts live in one Redis hash per entity ("total" plus "status:&lt;status&gt;" for projects) shared by
+ * all nodes. A missing hash is loaded from the DB on first read; writes adjust it after commit; a
+ * periodic reconciliation overwrites it with fresh DB counts to repair drift (lost increments, rows
+ * changed outside the application). If Redis is unavailable, reads fall back to the DB.
+ * <p>
+ * Counts are eventually consistent. A write that commits between a load's DB read and its store in
+ * Redis is either lost (its adjustment lands on the hash the store then replaces) or counted twice
+ * (the DB read saw it and its after-commit adjustment lands on the stored hash). The window is the
+ * duration of one load, and the next reconciliation repairs the result.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCounts {
+    public static final String PROJECTS = "projects";
+    public static final String TEAM_MEMBERS = "teamMembers";
+
+    private static final String KEY_PREFIX = "cair:counts:";
+    private static final String TOTAL = "total";
+
+    // Only adjusts a hash that exists: creating it from a delta would start the count at that delta
+    private static final RedisScript<Long> ADJUST = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            return 1
+            """, Long.class);
+
+    // Replaces the hash in one step (ARGV[1] == "1") or creates it only if no other node has (ARGV[1] == "0"),
+    // so readers never see a half-written hash and a late first load never overwrites adjusted counts
+    private static final RedisScript<Long> STORE = new DefaultRedisScript<>("""
+            if ARGV[1] == '1' then
+                redis.call('DEL', KEYS[1])
+            elseif redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProjectRepository projectRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    public long count(String entity) {
+        return count(entity, null);
+    }
+
+    // status == null counts all rows
+    public long count(String entity, String status) {
+        String field = status != null ? statusField(status) : TOTAL;
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(entity), List.of(TOTAL, field));
+            if (values.get(0) != null) {
+                // The hash exists, so a missing status field means no rows with that status
+                return values.get(1) != null ? Long.parseLong((String) values.get(1)) : 0;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} count from Redis, counting in the DB: {}", entity, e.getMessage());
+            return load(entity).getOrDefault(field, 0L);
+        }
+        Map<String, Long> counts = load(entity);
+        store(entity, counts, false);
+        return counts.getOrDefault(field, 0L);
+    }
+
+    public void added(String entity, String status) {
+        added(entity, status, 1);
+    }
+
+    public void added(String entity, String status, long count) {
+        adjust(entity, status, count);
+    }
+
+    public void removed(String entity, String status) {
+        adjust(entity, status, -1);
+    }
+
+    public void statusChanged(String entity, String oldStatus, String newStatus) {
+        if (oldStatus == null || oldStatus.equals(newStatus)) {
+            return;
+        }
+        Transactions.afterCommit(() -> execute(entity, statusField(oldStatus), "-1", statusField(newStatus), "1"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.count-reconcile:PT10M}",
+            initialDelayString = "${app.cache.count-reconcile:PT10M}")
+    public void reconcile() {
+        for (String entity : List.of(PROJECTS, TEAM_MEMBERS)) {
+            try {
+                store(entity, load(entity), true);
+            } catch (Exception e) {
+                log.warn("Failed to reconcile {} counts: {}", entity, e.getMessage());
+            }
+        }
+    }
+
+    private void adjust(String entity, String status, long delta) {
+        List<String> args = new ArrayList<>(List.of(TOTAL, String.valueOf(delta)));
+        if (status != null) {
+            args.addAll(List.of(statusField(status), String.valueOf(delta)));
+        }
+        Transactions.afterCommit(() -> execute(entity, args.toArray(String[]::new)));
+    }
+
+    private void execute(String entity, String... args) {
+        try {
+            redisTemplate.execute(ADJUST, List.of(key(entity)), (Object[]) args);
+        } catch (Exception e) {
+            // The next reconciliation corrects the count
+            log.warn("Failed to adjust {} count: {}", entity, e.getMessage());
+        }
+    }
+
+    private Map<String, Long> load(String entity) {
+        Map<String, Long> counts = new HashMap<>();
+        switch (entity) {
+            case PROJECTS -> {
+                long total = 0;
+                for (ProjectRepository.StatusCount statusCount : projectRepository.countByStatus()) {
+                    counts.put(statusField(statusCount.getStatus()), statusCount.getCount());
+                    total += statusCount.getCount();
+                }
+                counts.put(TOTAL, total);
+            }
+            case TEAM_MEMBERS -> counts.put(TOTAL, teamMemberRepository.count());
+            default -> throw new IllegalArgumentException("Unknown counted entity: " + entity);
+        }
+        return counts;
+    }
+
+    private void store(String entity, Map<String, Long> counts, boolean overwrite) {
+        try {
+            List<String> args = new ArrayList<>(List.of(overwrite ? "1" : "0"));
+            counts.forEach((field, count) -> args.addAll(List.of(field, String.valueOf(count))));
+            redisTemplate.execute(STORE, List.of(key(entity)), args.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to store {} counts: {}", entity, e.getMessage());
+        }
+    }
+
+    private static String key(String entity) {
+        return KEY_PREFIX + entity;
+    }
+
+    private static String statusField(String status) {
+        return "status:" + status;
+    }
+}
@@ -0,0 +1,79 @@
+package ai.lab.cair.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Folds the cache's current generation into every key of the wrapped Redis cache and turns
+ * clear() into a generation bump instead of a KEYS/SCAN + DEL sweep.
+ */
+public class GenerationalCache implements Cache {
+    private final Cache delegate;
+    private final CacheGenerations generations;
+
+    GenerationalCache(Cache delegate, CacheGenerations generations) {
+        this.delegate = delegate;
+        this.generations = generations;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(namespaced(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(namespaced(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(namespaced(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(namespaced(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(namespaced(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(namespaced(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(namespaced(key));
+    }
+
+    @Override
+    public void clear() {
+        generations.next(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        generations.next(getName());
+        return true;
+    }
+
+    private String namespaced(Object key) {
+        return generations.current(getName()) + ":" + key;
+    }
+}
@@ -0,0 +1,151 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory slug -> id index over all projects, loaded at startup. It is the authority for slugs: known
+ * slugs resolve straight to the projectById cache and unknown ones are a 404, neither touching the DB.
+ * <p>
+ * Writes update the local index after commit and are broadcast to the other nodes; a periodic full
+ * reload repairs anything a lost pub/sub message left behind, so a node that missed one answers 404 for
+ * a new slug until then. Changes applied while a reload reads the DB are replayed onto its snapshot, so
+ * a reload never undoes them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSlugDirectory implements MessageListener {
+    private static final String CHANNEL = "cair:projects:slugs";
+
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Map<String, Long> slugs;
+    // Changes applied locally, with the System.nanoTime() they were applied at; guarded by this
+    private final Map<String, AppliedChange> recentChanges = new HashMap<>();
+    private final Object reloadLock = new Object();
+
+    // Subscribed before the load, so changes committed meanwhile are replayed onto it
+    @PostConstruct
+    void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        reload();
+    }
+
+    public Optional<Long> resolve(String slug) {
+        return Optional.ofNullable(index().get(slug));
+    }
+
+    // Same index as resolve: for pre-screening, where the unique constraint catches what it misses
+    public boolean isKnown(String slug) {
+        return index().containsKey(slug);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.slug-directory-refresh:PT5M}",
+            initialDelayString = "${app.cache.slug-directory-refresh:PT5M}")
+    public Map<String, Long> reload() {
+        synchronized (reloadLock) {
+            long startedAt = System.nanoTime();
+            Map<String, Long> loaded = projectRepository.findAllSlugs().stream()
+                    .collect(Collectors.toConcurrentMap(ProjectRepository.SlugView::getSlug, ProjectRepository.SlugView::getId));
+            synchronized (this) {
+                // A change committed after the snapshot was read is applied after startedAt; one applied
+                // earlier is already in the snapshot
+                recentChanges.values().removeIf(change -> change.appliedAt() - startedAt < 0);
+                recentChanges.forEach((slug, change) -> put(loaded, slug, change.id()));
+                slugs = loaded;
+            }
+            log.debug("Loaded {} project slugs", loaded.size());
+            return loaded;
+        }
+    }
+
+    public void register(String slug, Long id) {
+        Transactions.afterCommit(() -> {
+            apply(slug, id);
+            publish(new SlugChange(nodeId, slug, id));
+        });
+    }
+
+    // One callback for a whole batch of new projects
+    public void registerAll(Map<String, Long> ids) {
+        Transactions.afterCommit(() -> ids.forEach((slug, id) -> {
+            apply(slug, id);
+            publish(new SlugChange(nodeId, slug, id));
+        }));
+    }
+
+    public void unregister(String slug) {
+        register(slug, null);
+    }
+
+    private Map<String, Long> index() {
+        Map<String, Long> current = slugs;
+        return current != null ? current : reload();
+    }
+
+    private synchronized void apply(String slug, Long id) {
+        recentChanges.put(slug, new AppliedChange(id, System.nanoTime()));
+        Map<String, Long> current = slugs;
+        if (current != null) {
+            put(current, slug, id);
+        }
+    }
+
+    private static void put(Map<String, Long> index, String slug, Long id) {
+        if (id == null) {
+            index.remove(slug);
+        } else {
+            index.put(slug, id);
+        }
+    }
+
+    private void publish(SlugChange change) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            log.warn("Failed to publish slug change for '{}': {}", change.slug(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SlugChange change = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SlugChange.class);
+            if (!nodeId.equals(change.origin())) {
+                apply(change.slug(), change.id());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed slug change message: {}", e.getMessage());
+        }
+    }
+
+    // id == null means the slug was removed
+    record SlugChange(String origin, String slug, Long id) {
+    }
+
+    private record AppliedChange(Long id, long appliedAt) {
+    }
+}
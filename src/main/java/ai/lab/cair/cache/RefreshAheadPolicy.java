@@ -0,0 +1,19 @@
+package ai.lab.cair.cache;
+
+import java.time.Duration;
+
+/**
+ * Entries older than {@code fraction} of {@code ttl} are still served, but reloaded in the background.
+ */
+public record RefreshAheadPolicy(Duration ttl, double fraction) {
+    public RefreshAheadPolicy {
+        if (fraction <= 0 || fraction >= 1) {
+            throw new IllegalArgumentException("Refresh-ahead fraction must be between 0 and 1, got " + fraction);
+        }
+    }
+
+    public boolean isDue(CacheEntry entry, long now) {
+        return entry.getWrittenAt() != Long.MAX_VALUE
+                && now - entry.getWrittenAt() >= (long) (ttl.toMillis() * fraction);
+    }
+}
@@ -0,0 +1,33 @@
+package ai.lab.cair.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators of a response, derived from its body (see {@link ResourceVersions}) and kept with its
+ * pre-serialized bytes in {@link CachedResponse}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+    private String etag;
+    // Epoch millis; -1 when the resource has no meaningful modification time (list pages)
+    private long lastModified;
+
+    public static ResourceVersion of(Long id, LocalDateTime updatedAt) {
+        long millis = updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        return new ResourceVersion(id + "-" + millis, millis);
+    }
+
+    // For representations that differ under the same URL, e.g. ?lang=auto resolved per Accept-Language
+    public static ResourceVersion of(Long id, LocalDateTime updatedAt, Object variant) {
+        ResourceVersion version = of(id, updatedAt);
+        version.setEtag(version.getEtag() + "-" + variant);
+        return version;
+    }
+}
@@ -0,0 +1,29 @@
+package ai.lab.cair.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Derives {@link ResourceVersion}s from response bodies. Versions are never stored apart from the body
+ * they describe, so an eviction cannot leave a validator behind that outlives its response.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+    private final ObjectMapper objectMapper;
+
+    // Strong validator for responses without a single updatedAt, e.g. list pages
+    public ResourceVersion ofContent(Object value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return new ResourceVersion(HexFormat.of().formatHex(digest, 0, 16), -1);
+        } catch (NoSuchAlgorithmException | com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException("Failed to hash response content", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Encoded response bodies of every {@link TwoLevelCache}, in one Caffeine cache so app.cache.responses.max-bytes
+ * is a single budget for the node rather than one per cache name. Entries expire with their cache's L1 ttl.
+ * <p>
+ * Bodies stay on the heap. A body is shared by every request serving it, so a pooled direct buffer could
+ * only go back to the pool once the last response writing it finished; heap arrays are simply left to
+ * the GC, and the servlet stream copies the bytes out of either kind.
+ */
+final class ResponseCache {
+    private static final String SEPARATOR = "::";
+
+    private final Cache<String, CachedResponse> responses;
+
+    ResponseCache(NearCacheProperties properties) {
+        NearCacheProperties.Local local = properties.getLocal();
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.getResponses().getMaxBytes())
+                .weigher((String key, CachedResponse response) -> response.size())
+                .expireAfter(Expiry.creating((String key, CachedResponse response) ->
+                        local.specFor(cacheName(key)).getTtl()))
+                .build();
+    }
+
+    CachedResponse get(String cacheName, String key) {
+        return responses.getIfPresent(cacheName + SEPARATOR + key);
+    }
+
+    void put(String cacheName, String key, CachedResponse response) {
+        responses.put(cacheName + SEPARATOR + key, response);
+    }
+
+    void invalidate(String cacheName, String key) {
+        responses.invalidate(cacheName + SEPARATOR + key);
+    }
+
+    // Walks the shared cache; clears only follow writes, so this stays off the read path
+    void invalidateAll(String cacheName) {
+        String prefix = cacheName + SEPARATOR;
+        responses.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private static String cacheName(String key) {
+        return key.substring(0, key.indexOf(SEPARATOR));
+    }
+}
@@ -0,0 +1,143 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache misses so only one caller per key runs the loader.
+ * <p>
+ * Within a node, later callers wait on the leader's future. With app.cache.single-flight.distributed
+ * enabled, the leader also takes a short Redis lock; leaders on other nodes that lose the lock poll L2
+ * for the winner's result instead of hitting the database, and load themselves only after lock-wait.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+    private static final String LOCK_PREFIX = "cair:cache:lock:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NearCacheProperties properties;
+    private final CacheMetrics metrics;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader loads the value and stores it in the cache
+     * @param probe  re-reads the cache while another node holds the lock
+     */
+    public Object execute(String cacheName, String key, Callable<Object> loader, Supplier<Cache.ValueWrapper> probe) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, future);
+        if (existing != null) {
+            metrics.increment(cacheName, CacheMetrics.COALESCED);
+            return await(existing);
+        }
+
+        try {
+            Object value = loadAcrossNodes(cacheName, key, loader, probe);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, future);
+        }
+    }
+
+    private Object loadAcrossNodes(String cacheName, String key, Callable<Object> loader, Supplier<Cache.ValueWrapper> probe) {
+        NearCacheProperties.SingleFlight config = properties.getSingleFlight();
+        if (!config.isDistributed()) {
+            return load(cacheName, loader);
+        }
+
+        String lockKey = LOCK_PREFIX + cacheName + ":" + key;
+        String token = UUID.randomUUID().toString();
+        if (tryLock(lockKey, token)) {
+            try {
+                return load(cacheName, loader);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + config.getLockWait().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(config.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Cache.ValueWrapper wrapper = probe.get();
+            if (wrapper != null) {
+                metrics.increment(cacheName, CacheMetrics.COALESCED_REMOTE);
+                return wrapper.get();
+            }
+        }
+
+        // The lock holder is slow or gone; don't make the caller wait any longer
+        return load(cacheName, loader);
+    }
+
+    private Object load(String cacheName, Callable<Object> loader) {
+        metrics.increment(cacheName, CacheMetrics.LOAD);
+        try {
+            return loader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, properties.getSingleFlight().getLockTtl());
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.debug("Single-flight lock {} unavailable, loading locally: {}", lockKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // Lock expires by its TTL
+            log.debug("Failed to release single-flight lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
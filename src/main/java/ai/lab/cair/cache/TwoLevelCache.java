@@ -0,0 +1,303 @@
+package ai.lab.cair.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process L1 (Caffeine) in front of a Redis-backed L2 cache.
+ * <p>
+ * Reads go L1 -> L2 -> loader; L2 hits are promoted to L1. Evictions hit both tiers locally and are
+ * broadcast so every other node drops its L1 copy. Puts after a miss are not broadcast: a miss on this
+ * node means the key was already evicted everywhere. Refresh-ahead reloads replace a live entry, so
+ * they are broadcast like an eviction and other nodes pick the new value up from L2.
+ * <p>
+ * An optional third, node-local tier keeps the encoded response body of each entry (see
+ * {@link CachedResponses} and {@link ResponseCache}); it is dropped together with the L1 entry.
+ * <p>
+ * Every invalidation, local or received, bumps an epoch. A value loaded, or a body encoded, across an
+ * invalidation of the cache is still returned to its caller but never cached.
+ * <p>
+ * Both tiers store {@link CacheEntry} envelopes; callers only ever see the wrapped value.
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+    private final String name;
+    private final org.springframework.cache.Cache remote;
+    private final Cache<String, CacheEntry> local;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheMetrics metrics;
+    private final SingleFlight singleFlight;
+    private final CacheRefresher refresher;
+    private final RefreshAheadPolicy refreshAheadPolicy;
+    private final ResponseCache responses;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoLevelCache(String name,
+                  org.springframework.cache.Cache remote,
+                  Cache<String, CacheEntry> local,
+                  TwoLevelCacheManager cacheManager,
+                  CacheMetrics metrics,
+                  SingleFlight singleFlight,
+                  CacheRefresher refresher,
+                  RefreshAheadPolicy refreshAheadPolicy,
+                  ResponseCache responses) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.cacheManager = cacheManager;
+        this.metrics = metrics;
+        this.singleFlight = singleFlight;
+        this.refresher = refresher;
+        this.refreshAheadPolicy = refreshAheadPolicy;
+        this.responses = responses;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEntry entry = lookup(key);
+        return entry != null ? new SimpleValueWrapper(entry.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        CacheEntry entry = lookup(key);
+        Object value = entry != null ? entry.getValue() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEntry entry = lookup(key);
+        if (entry != null) {
+            if (refreshAheadPolicy != null && refreshAheadPolicy.isDue(entry, System.currentTimeMillis())) {
+                // Serve the current value and reload it off the request thread
+                refreshAhead(key);
+            }
+            return (T) entry.getValue();
+        }
+
+        // Used by @Cacheable(sync = true): concurrent misses for the same key share one load
+        return (T) singleFlight.execute(name, localKey(key), () -> {
+            long epoch = invalidations.get();
+            T value = load(key, valueLoader);
+            putUnlessInvalidated(key, value, epoch);
+            return value;
+        }, () -> {
+            ValueWrapper wrapper = remote.get(key);
+            return wrapper != null ? new SimpleValueWrapper(CacheEntry.unwrap(wrapper.get()).getValue()) : null;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            remote.put(key, null);
+            return;
+        }
+        CacheEntry entry = CacheEntry.of(value);
+        remote.put(key, entry);
+        if (local != null) {
+            local.put(localKey(key), entry);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CacheEntry entry = CacheEntry.of(value);
+        ValueWrapper existing = remote.putIfAbsent(key, entry);
+        CacheEntry current = existing != null ? CacheEntry.unwrap(existing.get()) : entry;
+        if (local != null && current.getValue() != null) {
+            local.put(localKey(key), current);
+        }
+        return existing != null ? new SimpleValueWrapper(current.getValue()) : null;
+    }
+
+    // Loads and puts started before an invalidation are told apart by the epoch it bumps. It is bumped
+    // before L2 is touched as well, so a put that saw the old epoch lands in L2 before the L2 delete
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        invalidations.incrementAndGet();
+        remote.evict(key);
+        evictLocal(localKey);
+        metrics.increment(name, CacheMetrics.EVICT);
+        cacheManager.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        invalidations.incrementAndGet();
+        boolean evicted = remote.evictIfPresent(key);
+        evictLocal(localKey);
+        metrics.increment(name, CacheMetrics.EVICT);
+        cacheManager.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        remote.clear();
+        clearLocal();
+        metrics.increment(name, CacheMetrics.CLEAR);
+        cacheManager.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidations.incrementAndGet();
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        metrics.increment(name, CacheMetrics.CLEAR);
+        cacheManager.publish(name, null);
+        return invalidated;
+    }
+
+    CachedResponse getResponse(Object key) {
+        return responses != null ? responses.get(name, localKey(key)) : null;
+    }
+
+    // A reload that races an invalidation of this cache is dropped rather than written over it
+    private void refreshAhead(Object key) {
+        long epoch = invalidations.get();
+        refresher.refresh(name, key, value -> {
+            if (value != null && putUnlessInvalidated(key, value, epoch)) {
+                cacheManager.publish(name, localKey(key));
+            }
+        });
+    }
+
+    /**
+     * Read before loading a value and handed back to {@link #putIfAbsent(Object, Object, long)} or
+     * {@link #putResponse}: a value loaded across an invalidation of this cache is then not kept.
+     */
+    public long epoch() {
+        return invalidations.get();
+    }
+
+    // putIfAbsent for values loaded outside the cache, e.g. a batch of misses read in one query
+    public ValueWrapper putIfAbsent(Object key, Object value, long epoch) {
+        if (invalidations.get() != epoch) {
+            return null;
+        }
+        ValueWrapper existing = putIfAbsent(key, value);
+        dropIfInvalidated(key, epoch);
+        return existing;
+    }
+
+    private boolean putUnlessInvalidated(Object key, Object value, long epoch) {
+        if (invalidations.get() != epoch) {
+            return false;
+        }
+        put(key, value);
+        return !dropIfInvalidated(key, epoch);
+    }
+
+    // Checked again after the put: an invalidation that bumps the epoch first either sees the entry and
+    // drops it, or is seen here and the entry is dropped
+    private boolean dropIfInvalidated(Object key, long epoch) {
+        if (invalidations.get() == epoch) {
+            return false;
+        }
+        remote.evict(key);
+        if (local != null) {
+            local.invalidate(localKey(key));
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the body unless the key may have been invalidated since {@code epoch} was read. The epoch is
+     * checked again after the put: an invalidation that bumps it first either sees the body and drops it,
+     * or is seen here and the body is dropped.
+     */
+    void putResponse(Object key, CachedResponse response, long epoch) {
+        if (responses == null || invalidations.get() != epoch) {
+            return;
+        }
+        String localKey = localKey(key);
+        responses.put(name, localKey, response);
+        if (invalidations.get() != epoch) {
+            responses.invalidate(name, localKey);
+        }
+    }
+
+    void evictLocal(String localKey) {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidate(localKey);
+        }
+        if (responses != null) {
+            responses.invalidate(name, localKey);
+        }
+    }
+
+    void clearLocal() {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidateAll();
+        }
+        if (responses != null) {
+            responses.invalidateAll(name);
+        }
+    }
+
+    private CacheEntry lookup(Object key) {
+        String localKey = localKey(key);
+        if (local != null) {
+            CacheEntry entry = local.getIfPresent(localKey);
+            if (entry != null) {
+                metrics.increment(name, CacheMetrics.L1_HIT);
+                return entry;
+            }
+            metrics.increment(name, CacheMetrics.L1_MISS);
+        }
+
+        long epoch = invalidations.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            metrics.increment(name, CacheMetrics.L2_MISS);
+            return null;
+        }
+
+        metrics.increment(name, CacheMetrics.L2_HIT);
+        CacheEntry entry = CacheEntry.unwrap(wrapper.get());
+        // Not promoted if an invalidation may have removed it from L2 after it was read
+        if (local != null && invalidations.get() == epoch) {
+            local.put(localKey, entry);
+        }
+        return entry;
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    // Same string form RedisCache uses for simple keys, so keys match across nodes
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
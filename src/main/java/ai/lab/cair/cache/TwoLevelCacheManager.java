@@ -0,0 +1,130 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps the Redis cache manager so every cache gets an in-process L1 tier and a generation-namespaced
+ * L2, and listens on the invalidation channel to drop L1 entries evicted by other nodes.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics metrics;
+    private final CacheGenerations generations;
+    private final SingleFlight singleFlight;
+    private final CacheRefresher refresher;
+    private final Map<String, RefreshAheadPolicy> refreshAheadPolicies;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    // Shared by all caches, so the body budget is one per node
+    private final ResponseCache responses;
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                CacheMetrics metrics,
+                                CacheGenerations generations,
+                                SingleFlight singleFlight,
+                                CacheRefresher refresher,
+                                Map<String, RefreshAheadPolicy> refreshAheadPolicies) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.generations = generations;
+        this.singleFlight = singleFlight;
+        this.refresher = refresher;
+        this.refreshAheadPolicies = refreshAheadPolicies;
+        this.responses = properties.getResponses().isEnabled() ? new ResponseCache(properties) : null;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache redisCache = remoteCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        Cache remote = new GenerationalCache(redisCache, generations);
+
+        NearCacheProperties.Local local = properties.getLocal();
+        NearCacheProperties.Spec spec = local.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> localCache = null;
+        if (local.isEnabled() && spec.getMaxSize() > 0) {
+            localCache = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfterWrite(spec.getTtl())
+                    .build();
+        }
+        return new TwoLevelCache(name, remote, localCache, this, metrics, singleFlight,
+                refresher, refreshAheadPolicies.get(name), responses);
+    }
+
+    void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), payload);
+        } catch (Exception e) {
+            // L1 entries on other nodes still expire by their own TTL
+            log.warn("Failed to publish cache invalidation for {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        metrics.increment(invalidation.cacheName(), CacheMetrics.REMOTE_INVALIDATION);
+        if (invalidation.isClear()) {
+            // The sender bumped the generation; re-read it before the next lookup
+            generations.forget(invalidation.cacheName());
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+}
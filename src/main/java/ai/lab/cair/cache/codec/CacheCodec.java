@@ -0,0 +1,29 @@
+package ai.lab.cair.cache.codec;
+
+/**
+ * Value formats understood by {@link CacheValueSerializer}. The id is written into every entry's
+ * header, so ids must never be reused once deployed.
+ */
+public enum CacheCodec {
+    JSON((byte) 1),
+    SMILE((byte) 2);
+
+    private final byte id;
+
+    CacheCodec(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public static CacheCodec fromId(byte id) {
+        for (CacheCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cache codec id: " + id);
+    }
+}
@@ -0,0 +1,102 @@
+package ai.lab.cair.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis value serializer with a small header, so the format of a cache can be changed without
+ * flushing Redis: entries are always decoded by the codec recorded in their own header.
+ * <pre>
+ * [0xCA][codec id][flags][original length, only if compressed][payload]
+ * </pre>
+ * Payloads larger than {@code compressionThreshold} bytes are LZ4-compressed.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final CacheCodec codec;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    /**
+     * @param jsonMapper           typed ObjectMapper used for JSON; its configuration is reused for Smile
+     * @param compressionThreshold payload size in bytes above which LZ4 is applied, negative to disable
+     */
+    public CacheValueSerializer(ObjectMapper jsonMapper, CacheCodec codec, int compressionThreshold) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = jsonMapper.copyWith(new SmileFactory());
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = mapperFor(codec).writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold < 0 || payload.length <= compressionThreshold) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+            buffer.put(MAGIC).put(codec.getId()).put((byte) 0).put(payload);
+            return buffer.array();
+        }
+
+        byte[] compressed = new byte[HEADER_SIZE + Integer.BYTES + compressor.maxCompressedLength(payload.length)];
+        ByteBuffer.wrap(compressed).put(MAGIC).put(codec.getId()).put(FLAG_LZ4).putInt(payload.length);
+        int compressedLength = compressor.compress(
+                payload, 0, payload.length, compressed, HEADER_SIZE + Integer.BYTES);
+        return Arrays.copyOf(compressed, HEADER_SIZE + Integer.BYTES + compressedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            throw new SerializationException("Could not read cache value: missing header");
+        }
+
+        try {
+            ObjectMapper mapper = mapperFor(CacheCodec.fromId(bytes[1]));
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return mapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, Integer.BYTES).getInt();
+            byte[] payload = new byte[originalLength];
+            int offset = HEADER_SIZE + Integer.BYTES;
+            decompressor.decompress(bytes, offset, bytes.length - offset, payload, 0, originalLength);
+            return mapper.readValue(payload, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private ObjectMapper mapperFor(CacheCodec codec) {
+        return codec == CacheCodec.SMILE ? smileMapper : jsonMapper;
+    }
+}
@@ -0,0 +1,96 @@
+package ai.lab.cair.cache.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class NearCacheProperties {
+    // Redis pub/sub channel used to drop L1 entries on every node
+    private String invalidationChannel = "cair:cache:invalidation";
+
+    // How long a node trusts its locally known cache generation when it missed a clear announcement
+    private Duration generationRefresh = Duration.ofSeconds(1);
+
+    private Local local = new Local();
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    private RefreshAhead refreshAhead = new RefreshAhead();
+
+    private Warmup warmup = new Warmup();
+
+    private Responses responses = new Responses();
+
+    @Getter
+    @Setter
+    public static class Local {
+        private boolean enabled = true;
+        private Spec defaults = new Spec();
+        private Map<String, Spec> caches = new HashMap<>();
+
+        public Spec specFor(String cacheName) {
+            return caches.getOrDefault(cacheName, defaults);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class SingleFlight {
+        // Also coalesce misses across nodes with a Redis lock
+        private boolean distributed = false;
+        private Duration lockTtl = Duration.ofSeconds(5);
+        private Duration lockWait = Duration.ofSeconds(2);
+        private Duration pollInterval = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshAhead {
+        // Background reloads for the caches CacheConfig turns refresh-ahead on for
+        private int threads = 2;
+        private int queueCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        private boolean enabled = true;
+        // First pages of /projects and /team-members, with the controllers' default size and sort
+        private int pages = 3;
+        private int pageSize = 10;
+        // The first this many projects by id are also put into projectById (slugs resolve to it); not a
+        // popularity ranking, just the start of the default list
+        private int projectDetails = 20;
+        private int threads = 4;
+        // Startup never waits longer than this; unfinished loads keep running in the background
+        private Duration budget = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Responses {
+        // Pre-serialized JSON bodies, expiring with their cache's L1 ttl
+        private boolean enabled = true;
+        // Heap budget for the bodies of all caches together
+        private long maxBytes = 32 * 1024 * 1024;
+        // Bodies larger than this also keep a gzip copy; negative disables gzip
+        private int gzipThreshold = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        // 0 disables the in-process tier for the cache
+        private long maxSize = 1000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
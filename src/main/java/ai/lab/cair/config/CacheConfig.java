@@ -1,14 +1,25 @@
 package ai.lab.cair.config;
 
+import ai.lab.cair.cache.CacheGenerations;
+import ai.lab.cair.cache.CacheMetrics;
+import ai.lab.cair.cache.CacheRefresher;
+import ai.lab.cair.cache.RefreshAheadPolicy;
+import ai.lab.cair.cache.SingleFlight;
+import ai.lab.cair.cache.TwoLevelCacheManager;
+import ai.lab.cair.cache.codec.CacheCodec;
+import ai.lab.cair.cache.codec.CacheValueSerializer;
+import ai.lab.cair.cache.properties.NearCacheProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -19,12 +30,26 @@ import java.util.Map;
 @Configuration
 @EnableCaching
 public class CacheConfig {
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
-        // Create Jackson2JsonRedisSerializer with custom ObjectMapper
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
-        
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             ObjectMapper objectMapper,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             NearCacheProperties nearCacheProperties,
+                                             CacheMetrics cacheMetrics,
+                                             CacheGenerations cacheGenerations,
+                                             SingleFlight singleFlight,
+                                             CacheRefresher cacheRefresher) {
+        // Values are written with a typed copy of the ObjectMapper, so cached values come back as
+        // ProjectResponseDto / PaginatedResponse instead of LinkedHashMap
+        ObjectMapper cacheObjectMapper = cacheObjectMapper(objectMapper);
+        CacheValueSerializer serializer = new CacheValueSerializer(cacheObjectMapper, CacheCodec.JSON, -1);
+
+        // Smile + LZ4 for caches holding three-language descriptions
+        CacheValueSerializer binarySerializer =
+                new CacheValueSerializer(cacheObjectMapper, CacheCodec.SMILE, COMPRESSION_THRESHOLD_BYTES);
+
         // Default cache configuration
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
@@ -36,31 +61,79 @@ public class CacheConfig {
                 )
                 .disableCachingNullValues();
 
-        // Specific cache configurations
+        RedisCacheConfiguration binaryConfig = defaultConfig.serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(binarySerializer)
+        );
+
+        // TTL and refresh-ahead per cache. Refresh-ahead serves entries older than the given fraction of
+        // their TTL while reloading them in the background, so hot keys never fall off the TTL cliff.
+        // Only caches with a CacheReloader can turn it on
+        Map<String, CacheSettings> caches = new HashMap<>();
+        caches.put("projects", CacheSettings.of(Duration.ofHours(1)));
+        caches.put("projectById", CacheSettings.of(Duration.ofHours(1)).refreshAhead(0.8));
+        caches.put("teamMembers", CacheSettings.of(Duration.ofHours(1)));
+        caches.put("teamMemberById", CacheSettings.of(Duration.ofHours(1)).refreshAhead(0.8));
+        // Single-language projections (?lang=), keyed "<id or page>:<LANG>"
+        caches.put("localizedProjects", CacheSettings.of(Duration.ofHours(1)));
+        caches.put("localizedProjectById", CacheSettings.of(Duration.ofHours(1)).refreshAhead(0.8));
+        caches.put("localizedTeamMembers", CacheSettings.of(Duration.ofHours(1)));
+        caches.put("localizedTeamMemberById", CacheSettings.of(Duration.ofHours(1)).refreshAhead(0.8));
+        // ?expand=team bodies only, see ProjectController; evicted with the project and its team members
+        caches.put("projectWithTeamById", CacheSettings.of(Duration.ofHours(1)));
+        // More stable data
+        caches.put("translations", CacheSettings.of(Duration.ofHours(2)));
+
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        // Projects cache - 1 hour TTL
-        cacheConfigurations.put("projects", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // Project by ID - 1 hour TTL
-        cacheConfigurations.put("projectById", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // Project by slug - 1 hour TTL
-        cacheConfigurations.put("projectBySlug", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // Team members cache - 1 hour TTL
-        cacheConfigurations.put("teamMembers", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // Team member by ID - 1 hour TTL
-        cacheConfigurations.put("teamMemberById", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // Translations cache - 2 hours TTL (more stable data)
-        cacheConfigurations.put("translations", defaultConfig.entryTtl(Duration.ofHours(2)));
-
-        return RedisCacheManager.builder(connectionFactory)
+        Map<String, RefreshAheadPolicy> refreshAheadPolicies = new HashMap<>();
+        caches.forEach((name, settings) -> {
+            RedisCacheConfiguration config = name.equals("translations") ? defaultConfig : binaryConfig;
+            cacheConfigurations.put(name, config.entryTtl(settings.ttl()));
+            if (settings.refreshAhead() != null) {
+                refreshAheadPolicies.put(name, new RefreshAheadPolicy(settings.ttl(), settings.refreshAhead()));
+            }
+        });
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // Not a bean itself, so initialize the per-name configurations by hand
+        redisCacheManager.initializeCaches();
+
+        // In-process L1 in front of Redis (L2), sized per cache via app.cache.local
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, stringRedisTemplate,
+                objectMapper, cacheMetrics, cacheGenerations, singleFlight, cacheRefresher, refreshAheadPolicies);
+    }
+
+    private ObjectMapper cacheObjectMapper(ObjectMapper objectMapper) {
+        BasicPolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("ai.lab.cair.")
+                .allowIfSubType("java.util.")
+                .build();
+
+        ObjectMapper cacheObjectMapper = objectMapper.copy();
+        cacheObjectMapper.activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL);
+        return cacheObjectMapper;
+    }
+
+    private record CacheSettings(Duration ttl, Double refreshAhead) {
+        static CacheSettings of(Duration ttl) {
+            return new CacheSettings(ttl, null);
+        }
+
+        CacheSettings refreshAhead(double fraction) {
+            return new CacheSettings(ttl, fraction);
+        }
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoLevelCacheManager cacheManager,
+                                                                           NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
     }
 }
 
@@ -0,0 +1,29 @@
+package ai.lab.cair.controller;
+
+import ai.lab.cair.cache.CacheMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "API для мониторинга кэшей")
+public class CacheController {
+    private final CacheMetrics cacheMetrics;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Статистика кэшей",
+            description = "Счётчики попаданий/промахов по уровням L1/L2 для каждого кэша (только для администраторов)",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<Map<String, Map<String, Long>>> getCacheStats() {
+        return ResponseEntity.ok(cacheMetrics.snapshot());
+    }
+}
@@ -1,22 +1,57 @@
 package ai.lab.cair.controller;
 
+import ai.lab.cair.cache.CacheKeys;
+import ai.lab.cair.cache.CachedResponses;
+import ai.lab.cair.cache.ProjectSlugDirectory;
+import ai.lab.cair.cache.ResourceVersion;
+import ai.lab.cair.cache.ResourceVersions;
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.PageCursor;
+import ai.lab.cair.dto.base.PageKeys;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.dto.base.ProjectFilter;
+import ai.lab.cair.dto.base.ScrollKeys;
+import ai.lab.cair.dto.request.ProjectPatchDto;
 import ai.lab.cair.dto.request.ProjectRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedProjectResponseDto;
 import ai.lab.cair.dto.response.ProjectResponseDto;
+import ai.lab.cair.dto.response.ProjectWithTeamResponseDto;
+import ai.lab.cair.dto.response.TeamMemberResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
 import ai.lab.cair.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Validated
 @RestController
@@ -25,6 +60,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Projects", description = "API для управления проектами")
 public class ProjectController {
     private final ProjectService projectService;
+    private final ResourceVersions resourceVersions;
+    private final CachedResponses cachedResponses;
+    private final ProjectSlugDirectory slugDirectory;
 
     @PostMapping
     @Operation(summary = "Создать проект",
@@ -36,38 +74,231 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Импортировать проекты",
+            description = "Массовое создание проектов из NDJSON или JSON-массива (только для администраторов). " +
+                    "Тело читается потоково и пишется пачками; в ответе - результат по каждой строке",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<ImportReport> importProjects(InputStream body) {
+        return ResponseEntity.ok(projectService.importProjects(body));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Экспортировать все проекты",
+            description = "Полная выгрузка со всеми переводами в NDJSON или CSV (только для администраторов). " +
+                    "Записи пишутся в ответ по мере чтения из БД",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public void exportProjects(
+            @Parameter(description = "Формат: ndjson (по умолчанию) или csv") @RequestParam(required = false) String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        response.setContentType(exportFormat.mediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("projects." + exportFormat.name().toLowerCase(Locale.ROOT))
+                .build().toString());
+        projectService.exportProjects(response.getOutputStream(), exportFormat);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Получить проект по ID",
-            description = "Получение информации о проекте по его ID")
+            description = "Получение информации о проекте по его ID. Поддерживает If-None-Match / If-Modified-Since")
     public ResponseEntity<ProjectResponseDto> getProjectById(
-            @Parameter(description = "ID проекта") @PathVariable Long id) {
-        ProjectResponseDto response = projectService.getProjectById(id);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "ID проекта") @PathVariable Long id,
+            ServletWebRequest request) throws IOException {
+        return cachedResponses.get("projectById", id, request,
+                () -> projectService.getProjectById(id),
+                response -> ResourceVersion.of(id, response.getUpdatedAt()));
+    }
+
+    @GetMapping(value = "/{id}", params = {"expand=team", "!lang"})
+    @Operation(summary = "Получить проект по ID вместе с командой",
+            description = "Проект с данными членов команды (teamMembers), без отдельного запроса на каждого. " +
+                    "Поддерживает If-None-Match / If-Modified-Since")
+    public ResponseEntity<ProjectWithTeamResponseDto> getProjectWithTeamById(
+            @Parameter(description = "ID проекта") @PathVariable Long id,
+            @Parameter(description = "team") @RequestParam String expand,
+            ServletWebRequest request) throws IOException {
+        return cachedResponses.get("projectWithTeamById", id, request,
+                () -> projectService.getProjectWithTeamById(id),
+                ProjectController::teamVersion);
+    }
+
+    @GetMapping(value = "/{id}", params = "lang")
+    @Operation(summary = "Получить проект по ID на одном языке",
+            description = "Проект только на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<LocalizedProjectResponseDto> getLocalizedProjectById(
+            @Parameter(description = "ID проекта") @PathVariable Long id,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            ServletWebRequest request) throws IOException {
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        return cachedResponses.get("localizedProjectById", CacheKeys.localized(id, language), request,
+                () -> projectService.getLocalizedProjectById(id, language),
+                response -> ResourceVersion.of(id, response.getUpdatedAt(), language));
     }
 
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Получить проект по slug",
-            description = "Получение информации о проекте по его slug")
+            description = "Получение информации о проекте по его slug. Поддерживает If-None-Match / If-Modified-Since")
     public ResponseEntity<ProjectResponseDto> getProjectBySlug(
-            @Parameter(description = "Slug проекта") @PathVariable String slug) {
-        ProjectResponseDto response = projectService.getProjectBySlug(slug);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "Slug проекта") @PathVariable String slug,
+            ServletWebRequest request) throws IOException {
+        // Slugs share the projectById entries, so they share their versions and bodies too
+        Long id = slugDirectory.resolve(slug).orElse(null);
+        if (id == null) {
+            // Throws the 404
+            return ResponseEntity.ok(projectService.getProjectBySlug(slug));
+        }
+        return cachedResponses.get("projectById", id, request,
+                () -> projectService.getProjectBySlug(slug),
+                response -> ResourceVersion.of(id, response.getUpdatedAt()));
+    }
+
+    @GetMapping(value = "/slug/{slug}", params = {"expand=team", "!lang"})
+    @Operation(summary = "Получить проект по slug вместе с командой",
+            description = "Проект с данными членов команды (teamMembers), без отдельного запроса на каждого. " +
+                    "Поддерживает If-None-Match / If-Modified-Since")
+    public ResponseEntity<ProjectWithTeamResponseDto> getProjectWithTeamBySlug(
+            @Parameter(description = "Slug проекта") @PathVariable String slug,
+            @Parameter(description = "team") @RequestParam String expand,
+            ServletWebRequest request) throws IOException {
+        Long id = slugDirectory.resolve(slug).orElse(null);
+        if (id == null) {
+            // Throws the 404
+            return ResponseEntity.ok(projectService.getProjectWithTeamBySlug(slug));
+        }
+        return cachedResponses.get("projectWithTeamById", id, request,
+                () -> projectService.getProjectWithTeamBySlug(slug),
+                ProjectController::teamVersion);
+    }
+
+    @GetMapping(value = "/slug/{slug}", params = "lang")
+    @Operation(summary = "Получить проект по slug на одном языке",
+            description = "Проект только на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<LocalizedProjectResponseDto> getLocalizedProjectBySlug(
+            @Parameter(description = "Slug проекта") @PathVariable String slug,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            ServletWebRequest request) throws IOException {
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        Long id = slugDirectory.resolve(slug).orElse(null);
+        if (id == null) {
+            return ResponseEntity.ok(projectService.getLocalizedProjectBySlug(slug, language));
+        }
+        return cachedResponses.get("localizedProjectById", CacheKeys.localized(id, language), request,
+                () -> projectService.getLocalizedProjectBySlug(slug, language),
+                response -> ResourceVersion.of(id, response.getUpdatedAt(), language));
     }
 
     @GetMapping
     @Operation(summary = "Получить все проекты",
-            description = "Получение списка всех проектов с пагинацией")
+            description = "Получение списка всех проектов с пагинацией. По умолчанию - краткий вид (без fullDescription, " +
+                    "objectives и results). Фильтры status, startFrom, startTo, activeOn и tag можно сочетать. " +
+                    "Поддерживает If-None-Match")
     public ResponseEntity<PaginatedResponse<ProjectResponseDto>> getAllProjects(
-            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Размер страницы") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
             @Parameter(description = "Поле для сортировки") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Дополнительные поля через запятую: fullDescription, objectives, results или all")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Статус: active, completed или upcoming") @RequestParam(required = false) String status,
+            @Parameter(description = "Дата начала не раньше (yyyy-MM-dd)") @RequestParam(required = false) String startFrom,
+            @Parameter(description = "Дата начала не позже (yyyy-MM-dd)") @RequestParam(required = false) String startTo,
+            @Parameter(description = "Проекты, идущие в этот день (yyyy-MM-dd)") @RequestParam(required = false) String activeOn,
+            @Parameter(description = "Теги: только проекты со всеми указанными тегами")
+            @RequestParam(required = false) List<String> tag,
+            ServletWebRequest request) throws IOException {
 
-        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        Pageable pageable = PageKeys.pageable(page, size, sortBy, direction, PageKeys.PROJECTS);
 
-        PaginatedResponse<ProjectResponseDto> response = projectService.getAllProjects(pageable);
-        return ResponseEntity.ok(response);
+        Set<TranslationField> translationFields = ProjectFields.parse(fields);
+        ProjectFilter filter = ProjectFilter.parse(status, startFrom, startTo, activeOn, tag);
+
+        // A page has no single updatedAt (deletions never raise it), so only a content hash is sent
+        return cachedResponses.get("projects",
+                CacheKeys.filtered(CacheKeys.page(pageable, translationFields), filter), request,
+                () -> projectService.getAllProjects(pageable, translationFields, filter),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping(params = "lang")
+    @Operation(summary = "Получить все проекты на одном языке",
+            description = "Список проектов только на выбранном языке (en, ru, kz или auto - по Accept-Language). " +
+                    "По умолчанию - краткий вид")
+    public ResponseEntity<PaginatedResponse<LocalizedProjectResponseDto>> getAllLocalizedProjects(
+            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            @Parameter(description = "Дополнительные поля через запятую: fullDescription, objectives, results или all")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Статус: active, completed или upcoming") @RequestParam(required = false) String status,
+            @Parameter(description = "Дата начала не раньше (yyyy-MM-dd)") @RequestParam(required = false) String startFrom,
+            @Parameter(description = "Дата начала не позже (yyyy-MM-dd)") @RequestParam(required = false) String startTo,
+            @Parameter(description = "Проекты, идущие в этот день (yyyy-MM-dd)") @RequestParam(required = false) String activeOn,
+            @Parameter(description = "Теги: только проекты со всеми указанными тегами")
+            @RequestParam(required = false) List<String> tag,
+            ServletWebRequest request) throws IOException {
+
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        Pageable pageable = PageKeys.pageable(page, size, sortBy, direction, PageKeys.PROJECTS);
+
+        Set<TranslationField> translationFields = ProjectFields.parse(fields);
+        ProjectFilter filter = ProjectFilter.parse(status, startFrom, startTo, activeOn, tag);
+
+        return cachedResponses.get("localizedProjects",
+                CacheKeys.localized(CacheKeys.filtered(CacheKeys.page(pageable, translationFields), filter),
+                        language), request,
+                () -> projectService.getAllLocalizedProjects(pageable, language, translationFields, filter),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Получить проекты по курсору",
+            description = "Keyset-пагинация: следующая страница запрашивается по nextCursor предыдущей, без подсчёта " +
+                    "общего количества. Сортировка: id, slug, startDate или createdAt. Поддерживает If-None-Match")
+    public ResponseEntity<CursorPage<ProjectResponseDto>> scrollProjects(
+            @Parameter(description = "Курсор из nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки (без курсора)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC, без курсора)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Дополнительные поля через запятую: fullDescription, objectives, results или all")
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) throws IOException {
+
+        PageCursor pageCursor = pageCursor(cursor, sortBy, direction);
+        Set<TranslationField> translationFields = ProjectFields.parse(fields);
+
+        return cachedResponses.get("projects", CacheKeys.scroll(pageCursor, size, translationFields), request,
+                () -> projectService.scrollProjects(pageCursor, size, translationFields),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping(value = "/scroll", params = "lang")
+    @Operation(summary = "Получить проекты на одном языке по курсору",
+            description = "Keyset-пагинация списка проектов на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<CursorPage<LocalizedProjectResponseDto>> scrollLocalizedProjects(
+            @Parameter(description = "Курсор из nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки (без курсора)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC, без курсора)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            @Parameter(description = "Дополнительные поля через запятую: fullDescription, objectives, results или all")
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) throws IOException {
+
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        PageCursor pageCursor = pageCursor(cursor, sortBy, direction);
+        Set<TranslationField> translationFields = ProjectFields.parse(fields);
+
+        return cachedResponses.get("localizedProjects",
+                CacheKeys.localized(CacheKeys.scroll(pageCursor, size, translationFields), language), request,
+                () -> projectService.scrollLocalizedProjects(pageCursor, size, language, translationFields),
+                resourceVersions::ofContent);
     }
 
     @PutMapping("/{id}")
@@ -81,6 +312,17 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}")
+    @Operation(summary = "Частично обновить проект",
+            description = "Обновление только переданных полей проекта; отсутствующие поля и языки не меняются (только для администраторов)",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<ProjectResponseDto> patchProject(
+            @Parameter(description = "ID проекта") @PathVariable Long id,
+            @Valid @RequestBody ProjectPatchDto patchDto) {
+        ProjectResponseDto response = projectService.patchProject(id, patchDto);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Удалить проект",
             description = "Удаление проекта (только для администраторов)",
@@ -90,5 +332,25 @@ public class ProjectController {
         projectService.deleteProject(id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
 
+    // An opaque cursor from a previous page carries its own sort order; without one the list starts over.
+    // Validated here, so a forged or malformed cursor is a 400 and never becomes a cache key
+    private static PageCursor pageCursor(String cursor, String sortBy, String direction) {
+        if (cursor != null && !cursor.isBlank()) {
+            return PageCursor.decode(cursor).validate(ScrollKeys.PROJECTS);
+        }
+        return PageCursor.first(sortBy, Sort.Direction.fromString(direction)).validate(ScrollKeys.PROJECTS);
+    }
+
+    // The representation changes with the project and with each of its members, so it carries the latest
+    // of their updatedAt
+    private static ResourceVersion teamVersion(ProjectWithTeamResponseDto response) {
+        LocalDateTime updatedAt = Stream.concat(
+                        Stream.of(response.getProject().getUpdatedAt()),
+                        response.getTeamMembers().stream().map(TeamMemberResponseDto::getUpdatedAt))
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return ResourceVersion.of(response.getProject().getId(), updatedAt, "team");
+    }
+}
@@ -0,0 +1,18 @@
+package ai.lab.cair.controller;
+
+import ai.lab.cair.entity.enums.LanguageCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+final class RequestLanguages {
+    private RequestLanguages() {
+    }
+
+    // lang=auto makes the body depend on Accept-Language, which shared caches must know about
+    static LanguageCode resolve(String lang, ServletWebRequest request) {
+        if ("auto".equalsIgnoreCase(lang)) {
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        }
+        return LanguageCode.fromParam(lang, request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+    }
+}
@@ -0,0 +1,39 @@
+package ai.lab.cair.controller;
+
+import ai.lab.cair.dto.response.SearchResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "API полнотекстового поиска")
+public class SearchController {
+    private final SearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Поиск по проектам и членам команды",
+            description = "Полнотекстовый поиск по названиям, описаниям, ролям и биографиям на выбранном языке " +
+                    "(en, ru, kz или auto - по Accept-Language). Запрос в синтаксисе websearch: слова, \"фраза\", " +
+                    "or, -исключение. Результаты упорядочены по релевантности")
+    public ResponseEntity<SearchResponseDto> search(
+            @Parameter(description = "Поисковый запрос") @RequestParam String q,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam(defaultValue = "auto") String lang,
+            @Parameter(description = "Максимум результатов каждого типа (от 1 до 50)")
+            @RequestParam(defaultValue = "10") int limit,
+            ServletWebRequest request) {
+
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        return ResponseEntity.ok(searchService.search(q, language, limit));
+    }
+}
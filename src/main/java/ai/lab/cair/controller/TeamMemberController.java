@@ -1,23 +1,53 @@
 package ai.lab.cair.controller;
 
+import ai.lab.cair.cache.CacheKeys;
+import ai.lab.cair.cache.CachedResponses;
+import ai.lab.cair.cache.ResourceVersion;
+import ai.lab.cair.cache.ResourceVersions;
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.FilterValues;
+import ai.lab.cair.dto.base.PageCursor;
+import ai.lab.cair.dto.base.PageKeys;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.dto.base.ScrollKeys;
+import ai.lab.cair.dto.request.TeamMemberPatchDto;
 import ai.lab.cair.dto.request.TeamMemberRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedTeamMemberResponseDto;
+import ai.lab.cair.dto.response.ProjectResponseDto;
 import ai.lab.cair.dto.response.TeamMemberResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
+import ai.lab.cair.service.ProjectService;
 import ai.lab.cair.service.TeamMemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Validated
 @RestController
@@ -26,6 +56,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Team Members", description = "API для управления членами команды")
 public class TeamMemberController {
     private final TeamMemberService teamMemberService;
+    private final ProjectService projectService;
+    private final ResourceVersions resourceVersions;
+    private final CachedResponses cachedResponses;
 
     @PostMapping
     @Operation(summary = "Создать члена команды",
@@ -37,29 +70,155 @@ public class TeamMemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Импортировать членов команды",
+            description = "Массовое создание членов команды из NDJSON или JSON-массива (только для администраторов). " +
+                    "Тело читается потоково и пишется пачками; в ответе - результат по каждой строке",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<ImportReport> importTeamMembers(InputStream body) {
+        return ResponseEntity.ok(teamMemberService.importTeamMembers(body));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Экспортировать всех членов команды",
+            description = "Полная выгрузка со всеми переводами в NDJSON или CSV (только для администраторов). " +
+                    "Записи пишутся в ответ по мере чтения из БД",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public void exportTeamMembers(
+            @Parameter(description = "Формат: ndjson (по умолчанию) или csv") @RequestParam(required = false) String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        response.setContentType(exportFormat.mediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("team-members." + exportFormat.name().toLowerCase(Locale.ROOT))
+                .build().toString());
+        teamMemberService.exportTeamMembers(response.getOutputStream(), exportFormat);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Получить члена команды по ID",
-            description = "Получение информации о члене команды по его ID")
+            description = "Получение информации о члене команды по его ID. Поддерживает If-None-Match / If-Modified-Since")
     public ResponseEntity<TeamMemberResponseDto> getTeamMemberById(
-            @Parameter(description = "ID члена команды") @PathVariable Long id) {
-        TeamMemberResponseDto response = teamMemberService.getTeamMemberById(id);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "ID члена команды") @PathVariable Long id,
+            ServletWebRequest request) throws IOException {
+        return cachedResponses.get("teamMemberById", id, request,
+                () -> teamMemberService.getTeamMemberById(id),
+                response -> ResourceVersion.of(id, response.getUpdatedAt()));
+    }
+
+    @GetMapping("/{id}/projects")
+    @Operation(summary = "Получить проекты члена команды",
+            description = "Проекты, в команду которых входит член команды, от новых к старым. По умолчанию - краткий вид. " +
+                    "Поддерживает If-None-Match")
+    public ResponseEntity<List<ProjectResponseDto>> getTeamMemberProjects(
+            @Parameter(description = "ID члена команды") @PathVariable Long id,
+            @Parameter(description = "Дополнительные поля через запятую: fullDescription, objectives, results или all")
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) throws IOException {
+        Set<TranslationField> translationFields = ProjectFields.parse(fields);
+        return cachedResponses.get("projects", CacheKeys.teamMember(id, translationFields), request,
+                () -> projectService.getProjectsOfTeamMember(id, translationFields),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping(value = "/{id}", params = "lang")
+    @Operation(summary = "Получить члена команды по ID на одном языке",
+            description = "Член команды только на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<LocalizedTeamMemberResponseDto> getLocalizedTeamMemberById(
+            @Parameter(description = "ID члена команды") @PathVariable Long id,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            ServletWebRequest request) throws IOException {
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        return cachedResponses.get("localizedTeamMemberById", CacheKeys.localized(id, language), request,
+                () -> teamMemberService.getLocalizedTeamMemberById(id, language),
+                response -> ResourceVersion.of(id, response.getUpdatedAt(), language));
     }
 
     @GetMapping
     @Operation(summary = "Получить всех членов команды",
-            description = "Получение списка всех членов команды с пагинацией")
+            description = "Получение списка всех членов команды с пагинацией. Поддерживает If-None-Match")
     public ResponseEntity<PaginatedResponse<TeamMemberResponseDto>> getAllTeamMembers(
-            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Размер страницы") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
             @Parameter(description = "Поле для сортировки") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Экспертиза: только члены команды со всеми указанными направлениями")
+            @RequestParam(required = false) List<String> expertise,
+            ServletWebRequest request) throws IOException {
 
-        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        Pageable pageable = PageKeys.pageable(page, size, sortBy, direction, PageKeys.TEAM_MEMBERS);
+        List<String> expertiseFilter = FilterValues.parse(expertise);
 
-        PaginatedResponse<TeamMemberResponseDto> response = teamMemberService.getAllTeamMembers(pageable);
-        return ResponseEntity.ok(response);
+        return cachedResponses.get("teamMembers",
+                CacheKeys.filtered(CacheKeys.page(pageable), "expertise", expertiseFilter), request,
+                () -> teamMemberService.getAllTeamMembers(pageable, expertiseFilter),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping(params = "lang")
+    @Operation(summary = "Получить всех членов команды на одном языке",
+            description = "Список членов команды только на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<PaginatedResponse<LocalizedTeamMemberResponseDto>> getAllLocalizedTeamMembers(
+            @Parameter(description = "Номер страницы (начиная с 0)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            @Parameter(description = "Экспертиза: только члены команды со всеми указанными направлениями")
+            @RequestParam(required = false) List<String> expertise,
+            ServletWebRequest request) throws IOException {
+
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        Pageable pageable = PageKeys.pageable(page, size, sortBy, direction, PageKeys.TEAM_MEMBERS);
+        List<String> expertiseFilter = FilterValues.parse(expertise);
+
+        return cachedResponses.get("localizedTeamMembers",
+                CacheKeys.localized(CacheKeys.filtered(CacheKeys.page(pageable), "expertise", expertiseFilter),
+                        language), request,
+                () -> teamMemberService.getAllLocalizedTeamMembers(pageable, language, expertiseFilter),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Получить членов команды по курсору",
+            description = "Keyset-пагинация: следующая страница запрашивается по nextCursor предыдущей, без подсчёта " +
+                    "общего количества. Сортировка: id, name или createdAt. Поддерживает If-None-Match")
+    public ResponseEntity<CursorPage<TeamMemberResponseDto>> scrollTeamMembers(
+            @Parameter(description = "Курсор из nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки (без курсора)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC, без курсора)") @RequestParam(defaultValue = "ASC") String direction,
+            ServletWebRequest request) throws IOException {
+
+        PageCursor pageCursor = pageCursor(cursor, sortBy, direction);
+
+        return cachedResponses.get("teamMembers", CacheKeys.scroll(pageCursor, size), request,
+                () -> teamMemberService.scrollTeamMembers(pageCursor, size),
+                resourceVersions::ofContent);
+    }
+
+    @GetMapping(value = "/scroll", params = "lang")
+    @Operation(summary = "Получить членов команды на одном языке по курсору",
+            description = "Keyset-пагинация списка членов команды на выбранном языке (en, ru, kz или auto - по Accept-Language)")
+    public ResponseEntity<CursorPage<LocalizedTeamMemberResponseDto>> scrollLocalizedTeamMembers(
+            @Parameter(description = "Курсор из nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы, не больше 100")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(ScrollKeys.MAX_SIZE) int size,
+            @Parameter(description = "Поле для сортировки (без курсора)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Направление сортировки (ASC или DESC, без курсора)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Язык: en, ru, kz или auto") @RequestParam String lang,
+            ServletWebRequest request) throws IOException {
+
+        LanguageCode language = RequestLanguages.resolve(lang, request);
+        PageCursor pageCursor = pageCursor(cursor, sortBy, direction);
+
+        return cachedResponses.get("localizedTeamMembers",
+                CacheKeys.localized(CacheKeys.scroll(pageCursor, size), language), request,
+                () -> teamMemberService.scrollLocalizedTeamMembers(pageCursor, size, language),
+                resourceVersions::ofContent);
     }
 
     @PutMapping("/{id}")
@@ -73,6 +232,17 @@ public class TeamMemberController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}")
+    @Operation(summary = "Частично обновить члена команды",
+            description = "Обновление только переданных полей члена команды; отсутствующие поля и языки не меняются (только для администраторов)",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<TeamMemberResponseDto> patchTeamMember(
+            @Parameter(description = "ID члена команды") @PathVariable Long id,
+            @Valid @RequestBody TeamMemberPatchDto patchDto) {
+        TeamMemberResponseDto response = teamMemberService.patchTeamMember(id, patchDto);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Удалить члена команды",
             description = "Удаление члена команды (только для администраторов)",
@@ -82,5 +252,13 @@ public class TeamMemberController {
         teamMemberService.deleteTeamMember(id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
 
+    // An opaque cursor from a previous page carries its own sort order; without one the list starts over.
+    // Validated here, so a forged or malformed cursor is a 400 and never becomes a cache key
+    private static PageCursor pageCursor(String cursor, String sortBy, String direction) {
+        if (cursor != null && !cursor.isBlank()) {
+            return PageCursor.decode(cursor).validate(ScrollKeys.TEAM_MEMBERS);
+        }
+        return PageCursor.first(sortBy, Sort.Direction.fromString(direction)).validate(ScrollKeys.TEAM_MEMBERS);
+    }
+}
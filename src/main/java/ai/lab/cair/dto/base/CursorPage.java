@@ -0,0 +1,28 @@
+package ai.lab.cair.dto.base;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cursor-paginated counterpart of {@link PaginatedResponse}. Carries no totals: keyset pages are
+ * served without a count query.
+ */
+@Data
+@NoArgsConstructor // Required for deserialization from the Redis cache
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    // Pass back as ?cursor= for the following page; null on the last page
+    private String nextCursor;
+    private boolean last;
+
+    public CursorPage(List<T> content, int size, PageCursor nextCursor) {
+        this.content = new ArrayList<>(content);
+        this.size = size;
+        this.nextCursor = nextCursor != null ? nextCursor.encode() : null;
+        this.last = nextCursor == null;
+    }
+}
@@ -0,0 +1,33 @@
+package ai.lab.cair.dto.base;
+
+import java.util.Locale;
+
+/**
+ * Output formats of the full-dataset exports (?format=).
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    // null or blank means NDJSON
+    public static ExportFormat parse(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new IllegalArgumentException("Unknown format: " + format.trim() + " (expected ndjson or csv)");
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package ai.lab.cair.dto.base;
+
+import java.util.List;
+
+/**
+ * Values of a repeatable list filter (?tag=ml&amp;tag=nlp or ?tag=ml,nlp). Matching rows must carry all of them.
+ */
+public final class FilterValues {
+    private FilterValues() {
+    }
+
+    // Trimmed, without blanks and duplicates, sorted so equal filters give equal cache keys; empty means no filter
+    public static List<String> parse(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,110 @@
+package ai.lab.cair.dto.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Keyset position of a cursor-paginated list: the sort order plus the sort key and id of the last row
+ * served. Clients only ever see it encoded (base64url JSON) and pass it back unchanged.
+ */
+public record PageCursor(String sortBy, Sort.Direction direction, Map<String, String> keys) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // Keyset scrolling appends the id to every sort, so it is always part of the position
+    private static final String ID = "id";
+
+    public PageCursor {
+        // Sorted, so equal positions encode to equal cursors (they are part of cache keys)
+        keys = keys == null ? Map.of() : Collections.unmodifiableMap(new TreeMap<>(keys));
+    }
+
+    // Start of the list
+    public static PageCursor first(String sortBy, Sort.Direction direction) {
+        return new PageCursor(sortBy, direction, Map.of());
+    }
+
+    public static PageCursor after(PageCursor current, KeysetScrollPosition position) {
+        Map<String, String> keys = new TreeMap<>();
+        position.getKeys().forEach((key, value) -> keys.put(key, String.valueOf(value)));
+        return new PageCursor(current.sortBy(), current.direction(), keys);
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            return OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), PageCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Checks a cursor sent by a client before it is used, or becomes part of a cache key: the sort property
+     * must be one of {@code keyTypes}, and the keys must be exactly the sort property and id, each parsing
+     * to its type. Keys are re-encoded from the parsed values, so equal positions give equal cursors.
+     */
+    public PageCursor validate(Map<String, Function<String, Object>> keyTypes) {
+        if (!keyTypes.containsKey(sortBy)) {
+            throw new IllegalArgumentException("Cannot paginate by cursor on " + sortBy
+                    + " (expected one of " + new TreeMap<>(keyTypes).keySet() + ")");
+        }
+        if (direction == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (keys.isEmpty()) {
+            return this;
+        }
+        if (!keys.keySet().equals(new TreeSet<>(List.of(sortBy, ID)))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        Map<String, String> canonical = new TreeMap<>();
+        keys.forEach((key, value) -> canonical.put(key, String.valueOf(parse(keyTypes.get(key), value))));
+        return new PageCursor(sortBy, direction, canonical);
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    public Sort sort() {
+        return Sort.by(direction, sortBy);
+    }
+
+    // keyTypes: the properties that can be scrolled by, each with a parser back into the property's type
+    public ScrollPosition position(Map<String, Function<String, Object>> keyTypes) {
+        if (!keyTypes.containsKey(sortBy)) {
+            throw new IllegalArgumentException("Cannot paginate by cursor on " + sortBy
+                    + " (expected one of " + new TreeMap<>(keyTypes).keySet() + ")");
+        }
+        if (keys.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> values = new TreeMap<>();
+        keys.forEach((key, value) -> values.put(key, parse(keyTypes.get(key), value)));
+        return ScrollPosition.forward(values);
+    }
+
+    private static Object parse(Function<String, Object> parser, String value) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ai.lab.cair.dto.base;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Properties offset pagination can sort by. Checked before the page is looked up, so an unknown property
+ * is a 400 and never becomes a cache key.
+ */
+public final class PageKeys {
+    public static final Set<String> PROJECTS =
+            Set.of("id", "slug", "status", "startDate", "endDate", "createdAt", "updatedAt");
+
+    public static final Set<String> TEAM_MEMBERS = Set.of("id", "name", "email", "createdAt", "updatedAt");
+
+    private PageKeys() {
+    }
+
+    public static Pageable pageable(int page, int size, String sortBy, String direction, Set<String> sortKeys) {
+        if (!sortKeys.contains(sortBy)) {
+            throw new IllegalArgumentException("Cannot sort by " + sortBy);
+        }
+        return PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(direction), sortBy));
+    }
+}
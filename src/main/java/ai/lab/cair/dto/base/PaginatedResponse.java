@@ -1,11 +1,14 @@
 package ai.lab.cair.dto.base;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
+@NoArgsConstructor // Required for deserialization from the Redis cache
 public class PaginatedResponse<T> {
     private List<T> content;
     private int page;
@@ -15,11 +18,12 @@ public class PaginatedResponse<T> {
     private boolean last;
 
     public PaginatedResponse(Page<T> page) {
-        this.content = page.getContent();
+        // Page content is an unmodifiable view, which cannot be deserialized back from the cache
+        this.content = new ArrayList<>(page.getContent());
         this.page = page.getNumber();
         this.size = page.getSize();
         this.totalElements = page.getTotalElements();
         this.totalPages = page.getTotalPages();
         this.last = page.isLast();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package ai.lab.cair.dto.base;
+
+import ai.lab.cair.entity.enums.TranslationField;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Translated fields carried by project list responses (?fields=). Lists are summaries by default:
+ * title and short description only. The heavy fields are loaded and mapped only when asked for.
+ */
+public final class ProjectFields {
+    public static final Set<TranslationField> SUMMARY = Collections.unmodifiableSet(
+            EnumSet.of(TranslationField.TITLE, TranslationField.SHORT_DESCRIPTION));
+
+    public static final Set<TranslationField> ALL = Collections.unmodifiableSet(
+            EnumSet.of(TranslationField.TITLE, TranslationField.SHORT_DESCRIPTION, TranslationField.FULL_DESCRIPTION,
+                    TranslationField.OBJECTIVES, TranslationField.RESULTS));
+
+    private ProjectFields() {
+    }
+
+    // e.g. "fullDescription,objectives" or "all"; null or blank means the summary
+    public static Set<TranslationField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return SUMMARY;
+        }
+        EnumSet<TranslationField> result = EnumSet.copyOf(SUMMARY);
+        for (String field : fields.split(",")) {
+            switch (field.trim().toLowerCase(Locale.ROOT)) {
+                case "all" -> result.addAll(ALL);
+                case "title", "shortdescription" -> {
+                    // Always included
+                }
+                case "fulldescription" -> result.add(TranslationField.FULL_DESCRIPTION);
+                case "objectives" -> result.add(TranslationField.OBJECTIVES);
+                case "results" -> result.add(TranslationField.RESULTS);
+                default -> throw new IllegalArgumentException("Unknown field: " + field.trim()
+                        + " (expected fullDescription, objectives, results or all)");
+            }
+        }
+        return result.equals(ALL) ? ALL : Collections.unmodifiableSet(result);
+    }
+}
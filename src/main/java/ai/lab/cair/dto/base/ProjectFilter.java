@@ -0,0 +1,83 @@
+package ai.lab.cair.dto.base;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Criteria of the project list (?status=, ?startFrom=, ?startTo=, ?activeOn=, ?tag=). Null criteria are not
+ * applied; a project must match all the others.
+ *
+ * @param activeOn projects running on that day: started on or before it and not yet ended
+ * @param tags     see FilterValues
+ */
+public record ProjectFilter(String status, LocalDate startFrom, LocalDate startTo, LocalDate activeOn,
+                            List<String> tags) {
+    public static final ProjectFilter NONE = new ProjectFilter(null, null, null, null, List.of());
+
+    private static final Set<String> STATUSES = Set.of("active", "completed", "upcoming");
+
+    public ProjectFilter {
+        tags = FilterValues.parse(tags);
+    }
+
+    // Dates as yyyy-MM-dd; blank parameters are ignored
+    public static ProjectFilter parse(String status, String startFrom, String startTo, String activeOn,
+                                      List<String> tags) {
+        if (status != null && status.isBlank()) {
+            status = null;
+        }
+        if (status != null && !STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Unknown status: " + status + " (expected active, completed or upcoming)");
+        }
+        ProjectFilter filter = new ProjectFilter(status, date("startFrom", startFrom), date("startTo", startTo),
+                date("activeOn", activeOn), tags);
+        if (filter.startFrom() != null && filter.startTo() != null && filter.startFrom().isAfter(filter.startTo())) {
+            throw new IllegalArgumentException("startFrom must not be after startTo");
+        }
+        return filter;
+    }
+
+    public boolean isEmpty() {
+        return this.equals(NONE);
+    }
+
+    // Only ?status=, whose count EntityCounts keeps
+    public boolean isStatusOnly() {
+        return status != null && new ProjectFilter(status, null, null, null, List.of()).equals(this);
+    }
+
+    // e.g. "status=active;activeOn=2025-03-01;tags=ml,nlp"; empty when nothing is filtered
+    public String key() {
+        StringJoiner key = new StringJoiner(";");
+        if (status != null) {
+            key.add("status=" + status);
+        }
+        if (startFrom != null) {
+            key.add("startFrom=" + startFrom);
+        }
+        if (startTo != null) {
+            key.add("startTo=" + startTo);
+        }
+        if (activeOn != null) {
+            key.add("activeOn=" + activeOn);
+        }
+        if (!tags.isEmpty()) {
+            key.add("tags=" + String.join(",", tags));
+        }
+        return key.toString();
+    }
+
+    private static LocalDate date(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value + " (expected yyyy-MM-dd)");
+        }
+    }
+}
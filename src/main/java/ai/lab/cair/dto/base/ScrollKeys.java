@@ -0,0 +1,29 @@
+package ai.lab.cair.dto.base;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Properties cursor pagination can sort by, each with a parser back into the property's type. All are
+ * non-null, so keyset predicates never skip rows.
+ */
+public final class ScrollKeys {
+    public static final Map<String, Function<String, Object>> PROJECTS = Map.of(
+            "id", Long::valueOf,
+            "slug", value -> value,
+            "startDate", LocalDate::parse,
+            "createdAt", LocalDateTime::parse);
+
+    public static final Map<String, Function<String, Object>> TEAM_MEMBERS = Map.of(
+            "id", Long::valueOf,
+            "name", value -> value,
+            "createdAt", LocalDateTime::parse);
+
+    // Largest page a cursor request may ask for
+    public static final int MAX_SIZE = 100;
+
+    private ScrollKeys() {
+    }
+}
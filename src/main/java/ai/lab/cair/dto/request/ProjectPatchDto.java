@@ -0,0 +1,88 @@
+package ai.lab.cair.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// PATCH /projects/{id}: absent fields and languages are left unchanged; image and endDate are cleared by an explicit null
+@Data
+public class ProjectPatchDto {
+    @Pattern(regexp = "^[a-z0-9-]+$", message = "Slug must contain only lowercase letters, numbers, and hyphens")
+    private String slug;
+
+    @Valid
+    private TextDto title;
+
+    @Valid
+    private TextDto shortDescription;
+
+    @Valid
+    private TextDto fullDescription;
+
+    private String image;
+
+    @Size(min = 1, message = "At least one tag is required")
+    private List<String> tags;
+
+    @Pattern(regexp = "^(active|completed|upcoming)$", message = "Status must be 'active', 'completed', or 'upcoming'")
+    private String status;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Size(min = 1, message = "At least one team member is required")
+    private List<String> team;
+
+    private ListDto objectives;
+
+    private ListDto results;
+
+    // Nullable fields present in the request body, including those sent as null
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Set<String> sentFields = new HashSet<>();
+
+    // Tells an explicit null (clear the field) apart from an absent field (leave it unchanged)
+    public boolean isSent(String field) {
+        return sentFields.contains(field);
+    }
+
+    public void setImage(String image) {
+        this.image = image;
+        sentFields.add("image");
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+        sentFields.add("endDate");
+    }
+
+    @Data
+    public static class TextDto {
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String en;
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String ru;
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String kz;
+    }
+
+    @Data
+    public static class ListDto {
+        private List<String> en;
+        private List<String> ru;
+        private List<String> kz;
+    }
+}
@@ -0,0 +1,90 @@
+package ai.lab.cair.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// PATCH /team-members/{id}: absent fields and languages are left unchanged; image, email and the profile links
+// are cleared by an explicit null
+@Data
+public class TeamMemberPatchDto {
+    @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+    @Size(max = 255, message = "Name must be less than 255 characters")
+    private String name;
+
+    @Valid
+    private TextDto role;
+
+    @Valid
+    private TextDto bio;
+
+    private String image;
+
+    @Size(min = 1, message = "At least one expertise is required")
+    private List<String> expertise;
+
+    @Email(message = "Invalid email format")
+    private String email;
+
+    private String linkedin;
+
+    private String github;
+
+    private String scholar;
+
+    // Nullable fields present in the request body, including those sent as null
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Set<String> sentFields = new HashSet<>();
+
+    // Tells an explicit null (clear the field) apart from an absent field (leave it unchanged)
+    public boolean isSent(String field) {
+        return sentFields.contains(field);
+    }
+
+    public void setImage(String image) {
+        this.image = image;
+        sentFields.add("image");
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        sentFields.add("email");
+    }
+
+    public void setLinkedin(String linkedin) {
+        this.linkedin = linkedin;
+        sentFields.add("linkedin");
+    }
+
+    public void setGithub(String github) {
+        this.github = github;
+        sentFields.add("github");
+    }
+
+    public void setScholar(String scholar) {
+        this.scholar = scholar;
+        sentFields.add("scholar");
+    }
+
+    @Data
+    public static class TextDto {
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String en;
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String ru;
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "Text must not be blank")
+        private String kz;
+    }
+}
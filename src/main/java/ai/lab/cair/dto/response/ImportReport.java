@@ -0,0 +1,43 @@
+package ai.lab.cair.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: one entry per row of the request body, in request order.
+ */
+@Data
+public class ImportReport {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<RowResult> rows = new ArrayList<>();
+
+    public void imported(int row, Long id) {
+        rows.add(new RowResult(row, id, null));
+        imported++;
+        total++;
+    }
+
+    public void failed(int row, String error) {
+        rows.add(new RowResult(row, null, error));
+        failed++;
+        total++;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        // 1-based position of the row in the request body
+        private int row;
+        // Set when the row was imported
+        private Long id;
+        // Set when the row was rejected
+        private String error;
+    }
+}
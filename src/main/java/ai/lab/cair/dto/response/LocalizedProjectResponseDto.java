@@ -0,0 +1,38 @@
+package ai.lab.cair.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Project in a single language (?lang=), translated fields are flattened
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalizedProjectResponseDto {
+    private Long id;
+    private String slug;
+    private String language;
+    private String title;
+    private String shortDescription;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String fullDescription;
+    private String image;
+    private List<String> tags;
+    private String status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> team;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> objectives;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> results;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
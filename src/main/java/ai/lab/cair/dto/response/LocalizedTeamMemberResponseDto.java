@@ -0,0 +1,30 @@
+package ai.lab.cair.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Team member in a single language (?lang=), translated fields are flattened
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalizedTeamMemberResponseDto {
+    private Long id;
+    private String name;
+    private String language;
+    private String role;
+    private String bio;
+    private String image;
+    private List<String> expertise;
+    private String email;
+    private String linkedin;
+    private String github;
+    private String scholar;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package ai.lab.cair.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,7 @@ public class ProjectResponseDto {
     private String slug;
     private TitleDto title;
     private ShortDescriptionDto shortDescription;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private FullDescriptionDto fullDescription;
     private String image;
     private List<String> tags;
@@ -25,7 +27,9 @@ public class ProjectResponseDto {
     private LocalDate startDate;
     private LocalDate endDate;
     private List<String> team;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private ObjectivesDto objectives;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private ResultsDto results;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
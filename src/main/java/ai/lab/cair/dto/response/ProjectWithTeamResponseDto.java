@@ -0,0 +1,21 @@
+package ai.lab.cair.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A project with its team resolved (?expand=team): the usual project fields plus the team members
+ * listed in team, in the same order. Ids that match no team member are left out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectWithTeamResponseDto {
+    @JsonUnwrapped
+    private ProjectResponseDto project;
+    private List<TeamMemberResponseDto> teamMembers;
+}
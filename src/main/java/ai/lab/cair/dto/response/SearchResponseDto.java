@@ -0,0 +1,17 @@
+package ai.lab.cair.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// GET /search: matches in the requested language, each list best match first
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponseDto {
+    // Summaries: title and short description
+    private List<LocalizedProjectResponseDto> projects;
+    private List<LocalizedTeamMemberResponseDto> teamMembers;
+}
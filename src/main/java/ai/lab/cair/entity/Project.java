@@ -2,12 +2,18 @@ package ai.lab.cair.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "projects")
+@SqlResultSetMapping(name = "Project.withTranslations",
+        entities = @EntityResult(entityClass = Project.class),
+        columns = @ColumnResult(name = "translations_json", type = String.class))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +21,9 @@ import java.time.LocalDateTime;
 @Builder
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (see changeset 8): unlike IDENTITY it lets Hibernate batch the INSERTs
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -24,8 +32,10 @@ public class Project {
     @Column(name = "image")
     private String image;
 
-    @Column(name = "tags", columnDefinition = "TEXT", nullable = false)
-    private String tags; // JSON array stored as string
+    // TEXT[] (changeset 10), GIN-indexed for ?tag=
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags", nullable = false)
+    private List<String> tags;
 
     @Column(name = "status", nullable = false)
     private String status; // 'active', 'completed', 'upcoming'
@@ -36,8 +46,10 @@ public class Project {
     @Column(name = "end_date")
     private LocalDate endDate;
 
-    @Column(name = "team", columnDefinition = "TEXT", nullable = false)
-    private String team; // JSON array of team member IDs stored as string
+    // Team member ids in display order; project_team_members holds the same relation, indexed both ways
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "team", nullable = false)
+    private List<String> team;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -2,11 +2,17 @@ package ai.lab.cair.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "team_members")
+@SqlResultSetMapping(name = "TeamMember.withTranslations",
+        entities = @EntityResult(entityClass = TeamMember.class),
+        columns = @ColumnResult(name = "translations_json", type = String.class))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +20,9 @@ import java.time.LocalDateTime;
 @Builder
 public class TeamMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (see changeset 8): unlike IDENTITY it lets Hibernate batch the INSERTs
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_members_seq")
+    @SequenceGenerator(name = "team_members_seq", sequenceName = "team_members_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,8 +31,10 @@ public class TeamMember {
     @Column(name = "image")
     private String image;
 
-    @Column(name = "expertise", columnDefinition = "TEXT", nullable = false)
-    private String expertise; // JSON array stored as string
+    // TEXT[] (changeset 10), GIN-indexed for ?expertise=
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "expertise", nullable = false)
+    private List<String> expertise;
 
     @Column(name = "email")
     private String email;
@@ -16,7 +16,9 @@ import lombok.*;
 @Builder
 public class Translation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (see changeset 8): unlike IDENTITY it lets Hibernate batch the INSERTs
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translations_seq")
+    @SequenceGenerator(name = "translations_seq", sequenceName = "translations_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "entity_type", nullable = false)
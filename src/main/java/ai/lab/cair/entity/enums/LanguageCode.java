@@ -1,8 +1,38 @@
 package ai.lab.cair.entity.enums;
 
+import java.util.List;
+import java.util.Locale;
+
 public enum LanguageCode {
     EN,
     RU,
-    KZ
-}
+    KZ;
 
+    // Language tags matched against Accept-Language; "kk" is the ISO code for Kazakh
+    private static final List<String> TAGS = List.of("en", "ru", "kk", "kz");
+
+    /**
+     * Resolves a ?lang= value. "auto" picks the best match from Accept-Language and falls back to EN.
+     */
+    public static LanguageCode fromParam(String lang, String acceptLanguage) {
+        if (!"auto".equalsIgnoreCase(lang)) {
+            try {
+                return valueOf(lang.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported language: " + lang + " (expected en, ru, kz or auto)");
+            }
+        }
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return EN;
+        }
+        try {
+            String tag = Locale.lookupTag(Locale.LanguageRange.parse(acceptLanguage), TAGS);
+            if (tag == null) {
+                return EN;
+            }
+            return tag.equals("en") ? EN : tag.equals("ru") ? RU : KZ;
+        } catch (IllegalArgumentException e) {
+            return EN;
+        }
+    }
+}
@@ -12,4 +12,10 @@ public class DbObjectNotFoundException extends RuntimeException {
     private HttpStatus httpStatus;
     private final String error;
     private final String message;
+
+    // Thrown for every unknown id/slug (crawlers, stale links); the stack trace is never used
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
\ No newline at end of file
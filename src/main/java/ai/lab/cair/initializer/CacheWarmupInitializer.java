@@ -0,0 +1,104 @@
+package ai.lab.cair.initializer;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.dto.base.ProjectFilter;
+import ai.lab.cair.dto.response.ProjectResponseDto;
+import ai.lab.cair.service.ProjectService;
+import ai.lab.cair.service.TeamMemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills the caches at startup with what the default list endpoints serve first: the first pages of
+ * /projects and /team-members in id order, and the details of the first app.cache.warmup.project-details
+ * projects by id. There is no request history to rank by, so this is the start of the lists, not the
+ * most requested items.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(3)
+public class CacheWarmupInitializer implements CommandLineRunner {
+    private final ProjectService projectService;
+    private final TeamMemberService teamMemberService;
+    private final CacheManager cacheManager;
+    private final NearCacheProperties properties;
+
+    @Override
+    public void run(String... args) {
+        NearCacheProperties.Warmup warmup = properties.getWarmup();
+        if (!warmup.isEnabled()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger remainingDetails = new AtomicInteger(warmup.getProjectDetails());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(warmup.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int page = 0; page < warmup.getPages(); page++) {
+                Pageable pageable = PageRequest.of(page, warmup.getPageSize(), Sort.by(Sort.Direction.ASC, "id"));
+                tasks.add(CompletableFuture.runAsync(() -> warmProjects(pageable, remainingDetails), executor));
+                tasks.add(CompletableFuture.runAsync(() -> teamMemberService.getAllTeamMembers(pageable, List.of()), executor));
+            }
+
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                    .get(warmup.getBudget().toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Cache warm-up finished in {} ms", System.currentTimeMillis() - startedAt);
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up exceeded its {} budget, continuing startup", warmup.getBudget());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // A cold cache is not a reason to fail startup
+            log.warn("Cache warm-up failed: {}", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void warmProjects(Pageable pageable, AtomicInteger remainingDetails) {
+        // What the list endpoint serves by default
+        projectService.getAllProjects(pageable, ProjectFields.SUMMARY, ProjectFilter.NONE);
+        if (remainingDetails.get() <= 0) {
+            return;
+        }
+
+        // Summaries lack the detail fields, so the detail caches are fed from one batched full page
+        PaginatedResponse<ProjectResponseDto> page = projectService.getAllProjects(pageable, ProjectFields.ALL, ProjectFilter.NONE);
+        Cache byId = cacheManager.getCache("projectById");
+        for (ProjectResponseDto project : page.getContent()) {
+            if (remainingDetails.getAndDecrement() <= 0) {
+                return;
+            }
+            if (byId != null) {
+                byId.put(project.getId(), project);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ai.lab.cair.mapper;
 
+import ai.lab.cair.dto.request.ProjectPatchDto;
 import ai.lab.cair.dto.request.ProjectRequestDto;
+import ai.lab.cair.dto.response.LocalizedProjectResponseDto;
 import ai.lab.cair.dto.response.ProjectResponseDto;
 import ai.lab.cair.entity.Project;
 import ai.lab.cair.entity.Translation;
@@ -9,14 +11,17 @@ import ai.lab.cair.entity.enums.TranslationField;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = TranslationField.class)
 public interface ProjectMapper {
 
     ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -24,28 +29,99 @@ public interface ProjectMapper {
 
     // Basic mappings between DTO and entity
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "tags", expression = "java(toJson(dto.getTags()))")
-    @Mapping(target = "team", expression = "java(toJson(dto.getTeam()))")
+    @Mapping(target = "tags", expression = "java(copy(dto.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(dto.getTeam()))")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Project toEntity(ProjectRequestDto dto);
 
-    @Mapping(target = "tags", expression = "java(toJson(dto.getTags()))")
-    @Mapping(target = "team", expression = "java(toJson(dto.getTeam()))")
+    @Mapping(target = "tags", expression = "java(copy(dto.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(dto.getTeam()))")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget Project entity, ProjectRequestDto dto);
 
+    // PATCH: null properties keep the entity's value, unless a nullable one was sent as null
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "image", expression = "java(dto.isSent(\"image\") ? dto.getImage() : entity.getImage())")
+    @Mapping(target = "endDate", expression = "java(dto.isSent(\"endDate\") ? dto.getEndDate() : entity.getEndDate())")
+    @Mapping(target = "tags", expression = "java(dto.getTags() != null ? copy(dto.getTags()) : entity.getTags())")
+    @Mapping(target = "team", expression = "java(dto.getTeam() != null ? copy(dto.getTeam()) : entity.getTeam())")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patchEntity(@MappingTarget Project entity, ProjectPatchDto dto);
+
     // Mapping from entity + translations to response DTO
     @Mapping(target = "title", expression = "java(extractTitle(translations))")
     @Mapping(target = "shortDescription", expression = "java(extractShortDescription(translations))")
     @Mapping(target = "fullDescription", expression = "java(extractFullDescription(translations))")
     @Mapping(target = "objectives", expression = "java(extractObjectives(translations))")
     @Mapping(target = "results", expression = "java(extractResults(translations))")
-    @Mapping(target = "tags", expression = "java(fromJson(entity.getTags()))")
-    @Mapping(target = "team", expression = "java(fromJson(entity.getTeam()))")
+    @Mapping(target = "tags", expression = "java(copy(entity.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(entity.getTeam()))")
     ProjectResponseDto toDto(Project entity, List<Translation> translations);
 
+    // List summary: the heavy translated fields are neither loaded nor decoded
+    @Mapping(target = "title", expression = "java(extractTitle(translations))")
+    @Mapping(target = "shortDescription", expression = "java(extractShortDescription(translations))")
+    @Mapping(target = "fullDescription", ignore = true)
+    @Mapping(target = "objectives", ignore = true)
+    @Mapping(target = "results", ignore = true)
+    @Mapping(target = "tags", expression = "java(copy(entity.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(entity.getTeam()))")
+    ProjectResponseDto toSummaryDto(Project entity, List<Translation> translations);
+
+    default ProjectResponseDto toDto(Project entity, List<Translation> translations, Set<TranslationField> fields) {
+        ProjectResponseDto dto = toSummaryDto(entity, translations);
+        if (fields.contains(TranslationField.FULL_DESCRIPTION)) {
+            dto.setFullDescription(extractFullDescription(translations));
+        }
+        if (fields.contains(TranslationField.OBJECTIVES)) {
+            dto.setObjectives(extractObjectives(translations));
+        }
+        if (fields.contains(TranslationField.RESULTS)) {
+            dto.setResults(extractResults(translations));
+        }
+        return dto;
+    }
+
+    // Single-language projection; translations only need to hold rows of that language
+    @Mapping(target = "language", expression = "java(language.name().toLowerCase())")
+    @Mapping(target = "title", expression = "java(findTranslation(translations, TranslationField.TITLE, language))")
+    @Mapping(target = "shortDescription", expression = "java(findTranslation(translations, TranslationField.SHORT_DESCRIPTION, language))")
+    @Mapping(target = "fullDescription", expression = "java(findTranslation(translations, TranslationField.FULL_DESCRIPTION, language))")
+    @Mapping(target = "objectives", expression = "java(fromJson(findTranslation(translations, TranslationField.OBJECTIVES, language)))")
+    @Mapping(target = "results", expression = "java(extractLocalizedResults(translations, language))")
+    @Mapping(target = "tags", expression = "java(copy(entity.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(entity.getTeam()))")
+    LocalizedProjectResponseDto toLocalizedDto(Project entity, List<Translation> translations, LanguageCode language);
+
+    @Mapping(target = "language", expression = "java(language.name().toLowerCase())")
+    @Mapping(target = "title", expression = "java(findTranslation(translations, TranslationField.TITLE, language))")
+    @Mapping(target = "shortDescription", expression = "java(findTranslation(translations, TranslationField.SHORT_DESCRIPTION, language))")
+    @Mapping(target = "fullDescription", ignore = true)
+    @Mapping(target = "objectives", ignore = true)
+    @Mapping(target = "results", ignore = true)
+    @Mapping(target = "tags", expression = "java(copy(entity.getTags()))")
+    @Mapping(target = "team", expression = "java(copy(entity.getTeam()))")
+    LocalizedProjectResponseDto toLocalizedSummaryDto(Project entity, List<Translation> translations, LanguageCode language);
+
+    default LocalizedProjectResponseDto toLocalizedDto(Project entity, List<Translation> translations,
+                                                       LanguageCode language, Set<TranslationField> fields) {
+        LocalizedProjectResponseDto dto = toLocalizedSummaryDto(entity, translations, language);
+        if (fields.contains(TranslationField.FULL_DESCRIPTION)) {
+            dto.setFullDescription(findTranslation(translations, TranslationField.FULL_DESCRIPTION, language));
+        }
+        if (fields.contains(TranslationField.OBJECTIVES)) {
+            dto.setObjectives(fromJson(findTranslation(translations, TranslationField.OBJECTIVES, language)));
+        }
+        if (fields.contains(TranslationField.RESULTS)) {
+            dto.setResults(extractLocalizedResults(translations, language));
+        }
+        return dto;
+    }
+
     // Helper methods for translations
     default List<Translation> createTranslations(Long entityId, ProjectRequestDto dto) {
         List<Translation> translations = new ArrayList<>();
@@ -86,6 +162,49 @@ public interface ProjectMapper {
         return translations;
     }
 
+    // Only the values present in the patch
+    default List<Translation> patchTranslations(Long entityId, ProjectPatchDto dto) {
+        List<Translation> translations = new ArrayList<>();
+        if (dto.getTitle() != null) {
+            addTranslations(translations, entityId, TranslationField.TITLE,
+                    dto.getTitle().getEn(), dto.getTitle().getRu(), dto.getTitle().getKz());
+        }
+        if (dto.getShortDescription() != null) {
+            addTranslations(translations, entityId, TranslationField.SHORT_DESCRIPTION,
+                    dto.getShortDescription().getEn(), dto.getShortDescription().getRu(), dto.getShortDescription().getKz());
+        }
+        if (dto.getFullDescription() != null) {
+            addTranslations(translations, entityId, TranslationField.FULL_DESCRIPTION,
+                    dto.getFullDescription().getEn(), dto.getFullDescription().getRu(), dto.getFullDescription().getKz());
+        }
+        if (dto.getObjectives() != null) {
+            addTranslations(translations, entityId, TranslationField.OBJECTIVES, toJsonOrNull(dto.getObjectives().getEn()),
+                    toJsonOrNull(dto.getObjectives().getRu()), toJsonOrNull(dto.getObjectives().getKz()));
+        }
+        if (dto.getResults() != null) {
+            addTranslations(translations, entityId, TranslationField.RESULTS, toJsonOrNull(dto.getResults().getEn()),
+                    toJsonOrNull(dto.getResults().getRu()), toJsonOrNull(dto.getResults().getKz()));
+        }
+        return translations;
+    }
+
+    default void addTranslations(List<Translation> translations, Long entityId, TranslationField field,
+                                 String en, String ru, String kz) {
+        if (en != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.EN, en));
+        }
+        if (ru != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.RU, ru));
+        }
+        if (kz != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.KZ, kz));
+        }
+    }
+
+    default String toJsonOrNull(List<String> list) {
+        return list != null ? toJson(list) : null;
+    }
+
     default Translation createTranslation(Long entityId, TranslationField field, LanguageCode lang, String value) {
         return Translation.builder()
                 .entityType(ENTITY_TYPE)
@@ -140,6 +259,11 @@ public interface ProjectMapper {
                 .build();
     }
 
+    default List<String> extractLocalizedResults(List<Translation> translations, LanguageCode language) {
+        String results = findTranslation(translations, TranslationField.RESULTS, language);
+        return results.isEmpty() ? null : fromJson(results);
+    }
+
     default String findTranslation(List<Translation> translations, TranslationField field, LanguageCode lang) {
         return translations.stream()
                 .filter(t -> t.getFieldName() == field && t.getLanguageCode() == lang)
@@ -148,7 +272,12 @@ public interface ProjectMapper {
                 .orElse("");
     }
 
-    // JSON helpers for lists
+    // Entity and DTO never share a list; ArrayList also keeps cached DTOs deserializable
+    default List<String> copy(List<String> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
+    // JSON helpers for translated lists (objectives, results)
     default String toJson(List<String> list) {
         try {
             return OBJECT_MAPPER.writeValueAsString(list);
@@ -1,45 +1,66 @@
 package ai.lab.cair.mapper;
 
+import ai.lab.cair.dto.request.TeamMemberPatchDto;
 import ai.lab.cair.dto.request.TeamMemberRequestDto;
+import ai.lab.cair.dto.response.LocalizedTeamMemberResponseDto;
 import ai.lab.cair.dto.response.TeamMemberResponseDto;
 import ai.lab.cair.entity.TeamMember;
 import ai.lab.cair.entity.Translation;
 import ai.lab.cair.entity.enums.LanguageCode;
 import ai.lab.cair.entity.enums.TranslationField;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = TranslationField.class)
 public interface TeamMemberMapper {
 
-    ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     String ENTITY_TYPE = "TeamMember";
 
     // Basic mappings between DTO and entity
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "expertise", expression = "java(toJson(dto.getExpertise()))")
+    @Mapping(target = "expertise", expression = "java(copy(dto.getExpertise()))")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     TeamMember toEntity(TeamMemberRequestDto dto);
 
-    @Mapping(target = "expertise", expression = "java(toJson(dto.getExpertise()))")
+    @Mapping(target = "expertise", expression = "java(copy(dto.getExpertise()))")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget TeamMember entity, TeamMemberRequestDto dto);
 
+    // PATCH: null properties keep the entity's value, unless a nullable one was sent as null
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "image", expression = "java(dto.isSent(\"image\") ? dto.getImage() : entity.getImage())")
+    @Mapping(target = "email", expression = "java(dto.isSent(\"email\") ? dto.getEmail() : entity.getEmail())")
+    @Mapping(target = "linkedin", expression = "java(dto.isSent(\"linkedin\") ? dto.getLinkedin() : entity.getLinkedin())")
+    @Mapping(target = "github", expression = "java(dto.isSent(\"github\") ? dto.getGithub() : entity.getGithub())")
+    @Mapping(target = "scholar", expression = "java(dto.isSent(\"scholar\") ? dto.getScholar() : entity.getScholar())")
+    @Mapping(target = "expertise",
+            expression = "java(dto.getExpertise() != null ? copy(dto.getExpertise()) : entity.getExpertise())")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patchEntity(@MappingTarget TeamMember entity, TeamMemberPatchDto dto);
+
     // Mapping from entity + translations to response DTO
     @Mapping(target = "role", expression = "java(extractRole(translations))")
     @Mapping(target = "bio", expression = "java(extractBio(translations))")
-    @Mapping(target = "expertise", expression = "java(fromJson(entity.getExpertise()))")
+    @Mapping(target = "expertise", expression = "java(copy(entity.getExpertise()))")
     TeamMemberResponseDto toDto(TeamMember entity, List<Translation> translations);
 
+    // Single-language projection; translations only need to hold rows of that language
+    @Mapping(target = "language", expression = "java(language.name().toLowerCase())")
+    @Mapping(target = "role", expression = "java(findTranslation(translations, TranslationField.ROLE, language))")
+    @Mapping(target = "bio", expression = "java(findTranslation(translations, TranslationField.BIO, language))")
+    @Mapping(target = "expertise", expression = "java(copy(entity.getExpertise()))")
+    LocalizedTeamMemberResponseDto toLocalizedDto(TeamMember entity, List<Translation> translations, LanguageCode language);
+
     // Helper methods for translations (MapStruct will call these default methods)
     default List<Translation> createTranslations(Long entityId, TeamMemberRequestDto dto) {
         List<Translation> translations = new ArrayList<>();
@@ -57,6 +78,33 @@ public interface TeamMemberMapper {
         return translations;
     }
 
+    // Only the values present in the patch
+    default List<Translation> patchTranslations(Long entityId, TeamMemberPatchDto dto) {
+        List<Translation> translations = new ArrayList<>();
+        if (dto.getRole() != null) {
+            addTranslations(translations, entityId, TranslationField.ROLE,
+                    dto.getRole().getEn(), dto.getRole().getRu(), dto.getRole().getKz());
+        }
+        if (dto.getBio() != null) {
+            addTranslations(translations, entityId, TranslationField.BIO,
+                    dto.getBio().getEn(), dto.getBio().getRu(), dto.getBio().getKz());
+        }
+        return translations;
+    }
+
+    default void addTranslations(List<Translation> translations, Long entityId, TranslationField field,
+                                 String en, String ru, String kz) {
+        if (en != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.EN, en));
+        }
+        if (ru != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.RU, ru));
+        }
+        if (kz != null) {
+            translations.add(createTranslation(entityId, field, LanguageCode.KZ, kz));
+        }
+    }
+
     default Translation createTranslation(Long entityId, TranslationField field, LanguageCode lang, String value) {
         return Translation.builder()
                 .entityType(ENTITY_TYPE)
@@ -91,23 +139,8 @@ public interface TeamMemberMapper {
                 .orElse("");
     }
 
-    // JSON helpers for expertise list
-    default String toJson(List<String> list) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error converting list to JSON", e);
-        }
-    }
-
-    default List<String> fromJson(String json) {
-        if (json == null || json.isBlank()) {
-            return new ArrayList<>();
-        }
-        try {
-            return OBJECT_MAPPER.readValue(json, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error converting JSON to list", e);
-        }
+    // Entity and DTO never share a list; ArrayList also keeps cached DTOs deserializable
+    default List<String> copy(List<String> list) {
+        return list != null ? new ArrayList<>(list) : null;
     }
 }
@@ -0,0 +1,33 @@
+package ai.lab.cair.mapper;
+
+import ai.lab.cair.entity.Translation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+/**
+ * Decodes the translations_json column of the WITH_TRANSLATIONS repository queries back into
+ * (detached) Translation rows, so the existing mappers can be reused unchanged.
+ */
+public final class TranslationRows {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Translation>> TYPE = new TypeReference<>() {};
+
+    private TranslationRows() {
+    }
+
+    public static List<Translation> parse(String entityType, Long entityId, String json) {
+        try {
+            List<Translation> translations = OBJECT_MAPPER.readValue(json, TYPE);
+            for (Translation translation : translations) {
+                translation.setEntityType(entityType);
+                translation.setEntityId(entityId);
+            }
+            return translations;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting JSON to translations", e);
+        }
+    }
+}
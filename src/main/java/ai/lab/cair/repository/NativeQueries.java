@@ -0,0 +1,37 @@
+package ai.lab.cair.repository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Helpers for the native repository queries.
+ */
+public final class NativeQueries {
+    // Sort properties end up in a native ORDER BY, so only these columns are accepted
+    public static final Set<String> PROJECT_SORT_COLUMNS =
+            Set.of("id", "slug", "status", "start_date", "end_date", "created_at", "updated_at");
+    public static final Set<String> TEAM_MEMBER_SORT_COLUMNS =
+            Set.of("id", "name", "email", "created_at", "updated_at");
+
+    private NativeQueries() {
+    }
+
+    // Native queries sort by column, not by entity property: startDate -> start_date
+    public static Pageable columnSort(Pageable pageable, Set<String> sortColumns) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> order.withProperty(column(order.getProperty(), sortColumns)))
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private static String column(String property, Set<String> sortColumns) {
+        String column = property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+        if (!sortColumns.contains(column)) {
+            throw new IllegalArgumentException("Cannot sort by " + property);
+        }
+        return column;
+    }
+}
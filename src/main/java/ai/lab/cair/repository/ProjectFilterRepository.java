@@ -0,0 +1,18 @@
+package ai.lab.cair.repository;
+
+import ai.lab.cair.dto.base.ProjectFilter;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+// Filtered project lists. The statement is built per filter so its WHERE clause holds only the criteria that
+// are set: each then runs against its own index, which a static query with "OR :param IS NULL" branches
+// cannot promise once Postgres switches to a generic plan
+public interface ProjectFilterRepository {
+    // Rows are [Project, String translationsJson], as for ProjectRepository.findPageWithTranslations
+    List<Object[]> findMatchingWithTranslations(ProjectFilter filter, Collection<String> fieldNames,
+                                                String languageCode, Pageable pageable);
+
+    long countMatching(ProjectFilter filter);
+}
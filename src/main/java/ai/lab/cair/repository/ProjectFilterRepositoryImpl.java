@@ -0,0 +1,80 @@
+package ai.lab.cair.repository;
+
+import ai.lab.cair.dto.base.ProjectFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+class ProjectFilterRepositoryImpl implements ProjectFilterRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findMatchingWithTranslations(ProjectFilter filter, Collection<String> fieldNames,
+                                                       String languageCode, Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        String sql = ProjectRepository.WITH_TRANSLATIONS + where(filter, parameters) + orderBy(pageable.getSort());
+        Query query = entityManager.createNativeQuery(sql, "Project.withTranslations")
+                .setParameter("fieldNames", fieldNames)
+                .setParameter("languageCode", languageCode)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMatching(ProjectFilter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        Query query = entityManager.createNativeQuery("SELECT count(*) FROM projects p " + where(filter, parameters));
+        parameters.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    // idx_projects_status, idx_projects_dates (start_date, end_date) and the GIN idx_projects_tags
+    private static String where(ProjectFilter filter, Map<String, Object> parameters) {
+        StringJoiner where = new StringJoiner(" AND ", "WHERE ", "\n").setEmptyValue("");
+        if (filter.status() != null) {
+            where.add("p.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.startFrom() != null) {
+            where.add("p.start_date >= :startFrom");
+            parameters.put("startFrom", filter.startFrom());
+        }
+        if (filter.startTo() != null) {
+            where.add("p.start_date <= :startTo");
+            parameters.put("startTo", filter.startTo());
+        }
+        if (filter.activeOn() != null) {
+            where.add("p.start_date <= :activeOn AND (p.end_date IS NULL OR p.end_date >= :activeOn)");
+            parameters.put("activeOn", filter.activeOn());
+        }
+        if (!filter.tags().isEmpty()) {
+            where.add("p.tags @> CAST(:tags AS TEXT[])");
+            parameters.put("tags", filter.tags().toArray(String[]::new));
+        }
+        return where.toString();
+    }
+
+    // Expects column names, see NativeQueries.columnSort
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", "ORDER BY ", "").setEmptyValue("");
+        for (Sort.Order order : sort) {
+            if (!NativeQueries.PROJECT_SORT_COLUMNS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort by " + order.getProperty());
+            }
+            orderBy.add("p." + order.getProperty() + " " + order.getDirection().name());
+        }
+        return orderBy.toString();
+    }
+}
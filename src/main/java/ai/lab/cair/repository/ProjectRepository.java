@@ -1,14 +1,148 @@
 package ai.lab.cair.repository;
 
 import ai.lab.cair.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectFilterRepository {
+    // The projects row plus its translations aggregated into one JSON array, so a read is a single
+    // round trip. The lateral join keeps "projects p" as the first FROM for Pageable sorting.
+    // languageCode == null means all languages.
+    String WITH_TRANSLATIONS = """
+            SELECT p.*, COALESCE(tr.translations_json, '[]'::jsonb)::text AS translations_json
+            FROM projects p
+            LEFT JOIN LATERAL (
+                SELECT jsonb_agg(jsonb_build_object(
+                        'fieldName', t.field_name,
+                        'languageCode', t.language_code,
+                        'value', t.value)) AS translations_json
+                FROM translations t
+                WHERE t.entity_type = 'Project' AND t.entity_id = p.id
+                  AND t.field_name IN (:fieldNames)
+                  AND (CAST(:languageCode AS VARCHAR) IS NULL OR t.language_code = :languageCode)
+            ) tr ON true
+            """;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
     Page<Project> findAll(Pageable pageable);
+
+    // Keyset scrolling: no OFFSET and no count query; the id is appended to the sort as a tie-breaker
+    Window<Project> findBy(ScrollPosition position, Sort sort, Limit limit);
     Optional<Project> findBySlug(String slug);
-    boolean existsBySlug(String slug);
+
+    // Every row in id order through a server-side cursor, for exports. Read-only, so loaded entities keep
+    // no dirty-checking snapshots. Consume inside a transaction and close the stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAll();
+
+    @Query("SELECT p.id AS id, p.slug AS slug FROM Project p")
+    List<SlugView> findAllSlugs();
+
+    // Rows are [Project, String translationsJson]
+    @NativeQuery(value = WITH_TRANSLATIONS + "WHERE p.id = :id", sqlResultSetMapping = "Project.withTranslations")
+    List<Object[]> findWithTranslationsById(@Param("id") Long id,
+                                            @Param("fieldNames") Collection<String> fieldNames,
+                                            @Param("languageCode") String languageCode);
+
+    // Rows in no particular order
+    @NativeQuery(value = WITH_TRANSLATIONS + "WHERE p.id IN (:ids)", sqlResultSetMapping = "Project.withTranslations")
+    List<Object[]> findWithTranslationsByIdIn(@Param("ids") Collection<Long> ids,
+                                              @Param("fieldNames") Collection<String> fieldNames,
+                                              @Param("languageCode") String languageCode);
+
+    // Pageable sort properties must be column names here, see NativeQueries.columnSort. No count query:
+    // totals come from EntityCounts
+    @NativeQuery(value = WITH_TRANSLATIONS, sqlResultSetMapping = "Project.withTranslations")
+    List<Object[]> findPageWithTranslations(@Param("fieldNames") Collection<String> fieldNames,
+                                            @Param("languageCode") String languageCode,
+                                            Pageable pageable);
+
+    // Projects a team member is on, through idx_project_team_members_team_member; newest first
+    @NativeQuery(value = WITH_TRANSLATIONS + """
+            JOIN project_team_members ptm ON ptm.project_id = p.id
+            WHERE ptm.team_member_id = :teamMemberId
+            ORDER BY p.start_date DESC, p.id DESC
+            """, sqlResultSetMapping = "Project.withTranslations")
+    List<Object[]> findWithTranslationsByTeamMemberId(@Param("teamMemberId") Long teamMemberId,
+                                                      @Param("fieldNames") Collection<String> fieldNames,
+                                                      @Param("languageCode") String languageCode);
+
+    // Brings the project's project_team_members rows in line with its team in one statement: rows for
+    // ids no longer listed are deleted, rows for new ids inserted, the rest left alone. Ids that match no
+    // team member are skipped, like the free-text team entries the caller never passes
+    @Modifying
+    @NativeQuery("""
+            WITH removed AS (
+                DELETE FROM project_team_members
+                WHERE project_id = :projectId AND team_member_id <> ALL (CAST(:teamMemberIds AS BIGINT[]))
+            )
+            INSERT INTO project_team_members (project_id, team_member_id)
+            SELECT :projectId, m.id
+            FROM team_members m
+            WHERE m.id = ANY (CAST(:teamMemberIds AS BIGINT[]))
+            ON CONFLICT DO NOTHING
+            """)
+    void replaceTeam(@Param("projectId") Long projectId, @Param("teamMemberIds") Long[] teamMemberIds);
+
+    // Memberships of new projects, projectIds[i] with teamMemberIds[i]: one statement for a whole batch.
+    // Unknown team member ids are skipped, as in replaceTeam
+    @Modifying
+    @NativeQuery("""
+            INSERT INTO project_team_members (project_id, team_member_id)
+            SELECT t.project_id, t.team_member_id
+            FROM unnest(CAST(:projectIds AS BIGINT[]), CAST(:teamMemberIds AS BIGINT[])) AS t(project_id, team_member_id)
+            JOIN team_members m ON m.id = t.team_member_id
+            ON CONFLICT DO NOTHING
+            """)
+    void addTeamMembers(@Param("projectIds") Long[] projectIds, @Param("teamMemberIds") Long[] teamMemberIds);
+
+    // Deletes the project and its translations in one statement; empty if there was no such project
+    @NativeQuery("""
+            WITH deleted AS (
+                DELETE FROM projects WHERE id = :id RETURNING id, slug, status
+            ), deleted_translations AS (
+                DELETE FROM translations
+                WHERE entity_type = 'Project' AND entity_id IN (SELECT id FROM deleted)
+            )
+            SELECT slug, status FROM deleted
+            """)
+    Optional<DeletedProject> deleteWithTranslations(@Param("id") Long id);
+
+    @Query("SELECT p.status AS status, count(p) AS count FROM Project p GROUP BY p.status")
+    List<StatusCount> countByStatus();
+
+    interface SlugView {
+        Long getId();
+        String getSlug();
+    }
+
+    interface DeletedProject {
+        String getSlug();
+        String getStatus();
+    }
+
+    interface StatusCount {
+        String getStatus();
+        long getCount();
+    }
 }
@@ -1,11 +1,115 @@
 package ai.lab.cair.repository;
 
 import ai.lab.cair.entity.TeamMember;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
+    // Same single round trip as ProjectRepository.WITH_TRANSLATIONS
+    String WITH_TRANSLATIONS = """
+            SELECT m.*, COALESCE(tr.translations_json, '[]'::jsonb)::text AS translations_json
+            FROM team_members m
+            LEFT JOIN LATERAL (
+                SELECT jsonb_agg(jsonb_build_object(
+                        'fieldName', t.field_name,
+                        'languageCode', t.language_code,
+                        'value', t.value)) AS translations_json
+                FROM translations t
+                WHERE t.entity_type = 'TeamMember' AND t.entity_id = m.id
+                  AND (CAST(:languageCode AS VARCHAR) IS NULL OR t.language_code = :languageCode)
+            ) tr ON true
+            """;
+
     Page<TeamMember> findAll(Pageable pageable);
-}
 
+    // Keyset scrolling: no OFFSET and no count query; the id is appended to the sort as a tie-breaker
+    Window<TeamMember> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // Rows are [TeamMember, String translationsJson]
+    @NativeQuery(value = WITH_TRANSLATIONS + "WHERE m.id = :id", sqlResultSetMapping = "TeamMember.withTranslations")
+    List<Object[]> findWithTranslationsById(@Param("id") Long id, @Param("languageCode") String languageCode);
+
+    // Rows in no particular order
+    @NativeQuery(value = WITH_TRANSLATIONS + "WHERE m.id IN (:ids)", sqlResultSetMapping = "TeamMember.withTranslations")
+    List<Object[]> findWithTranslationsByIdIn(@Param("ids") Collection<Long> ids,
+                                              @Param("languageCode") String languageCode);
+
+    // No count query: totals come from EntityCounts
+    @NativeQuery(value = WITH_TRANSLATIONS, sqlResultSetMapping = "TeamMember.withTranslations")
+    List<Object[]> findPageWithTranslations(@Param("languageCode") String languageCode, Pageable pageable);
+
+    // ?expertise= filter, through the GIN index idx_team_members_expertise
+    @NativeQuery(value = WITH_TRANSLATIONS + "WHERE m.expertise @> CAST(:expertise AS TEXT[])",
+            sqlResultSetMapping = "TeamMember.withTranslations")
+    List<Object[]> findPageWithTranslationsByExpertise(@Param("languageCode") String languageCode,
+                                                       @Param("expertise") String[] expertise,
+                                                       Pageable pageable);
+
+    @NativeQuery("SELECT count(*) FROM team_members WHERE expertise @> CAST(:expertise AS TEXT[])")
+    long countByExpertise(@Param("expertise") String[] expertise);
+
+    // Projects the team member is on, through idx_project_team_members_team_member
+    @NativeQuery("SELECT project_id FROM project_team_members WHERE team_member_id = :teamMemberId")
+    List<Long> findProjectIds(@Param("teamMemberId") Long teamMemberId);
+
+    // Memberships of new team members on projects that already list their ids in team (replaceTeam skips
+    // ids that match no team member yet); returns the projects that got one
+    @NativeQuery("""
+            INSERT INTO project_team_members (project_id, team_member_id)
+            SELECT p.id, m.id
+            FROM projects p
+            JOIN unnest(CAST(:teamMemberIds AS BIGINT[])) AS m(id) ON CAST(m.id AS TEXT) = ANY (p.team)
+            ON CONFLICT DO NOTHING
+            RETURNING project_id
+            """)
+    List<Long> addToListingProjects(@Param("teamMemberIds") Long[] teamMemberIds);
+
+    // Deletes the team member and its translations in one statement, and takes it off the teams of its
+    // projects (their project_team_members rows go by ON DELETE CASCADE); empty if there was no such member
+    @NativeQuery("""
+            WITH deleted AS (
+                DELETE FROM team_members WHERE id = :id RETURNING id
+            ), deleted_translations AS (
+                DELETE FROM translations
+                WHERE entity_type = 'TeamMember' AND entity_id IN (SELECT id FROM deleted)
+            ), unassigned AS (
+                UPDATE projects p
+                SET team = array_remove(p.team, CAST(:id AS TEXT)), updated_at = now()
+                FROM project_team_members ptm
+                WHERE ptm.project_id = p.id AND ptm.team_member_id IN (SELECT id FROM deleted)
+                RETURNING p.id
+            )
+            SELECT d.id AS id, (SELECT count(*) FROM unassigned) AS projects FROM deleted d
+            """)
+    Optional<DeletedTeamMember> deleteWithTranslations(@Param("id") Long id);
+
+    interface DeletedTeamMember {
+        Long getId();
+        // Number of projects whose team it was taken off
+        long getProjects();
+    }
+
+    // Export cursor, see ProjectRepository.streamAll
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM TeamMember m ORDER BY m.id")
+    Stream<TeamMember> streamAll();
+}
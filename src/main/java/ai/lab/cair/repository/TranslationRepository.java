@@ -4,15 +4,21 @@ import ai.lab.cair.entity.Translation;
 import ai.lab.cair.entity.enums.LanguageCode;
 import ai.lab.cair.entity.enums.TranslationField;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TranslationRepository extends JpaRepository<Translation, Long> {
+public interface TranslationRepository extends JpaRepository<Translation, Long>, TranslationSearchRepository {
     List<Translation> findByEntityTypeAndEntityId(String entityType, Long entityId);
 
+    List<Translation> findByEntityTypeAndEntityIdAndLanguageCode(
+            String entityType, Long entityId, LanguageCode languageCode);
+
     Optional<Translation> findByEntityTypeAndEntityIdAndFieldNameAndLanguageCode(
             String entityType, Long entityId, TranslationField fieldName, LanguageCode languageCode);
 
@@ -24,5 +30,47 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
             @Param("entityType") String entityType,
             @Param("entityIds") List<Long> entityIds
     );
-}
 
+    // Single-language batch loading for ?lang= reads
+    @Query("SELECT t FROM Translation t WHERE t.entityType = :entityType AND t.entityId IN :entityIds " +
+            "AND t.languageCode = :languageCode")
+    List<Translation> findByEntityTypeAndEntityIdInAndLanguageCode(
+            @Param("entityType") String entityType,
+            @Param("entityIds") List<Long> entityIds,
+            @Param("languageCode") LanguageCode languageCode
+    );
+
+    // List reads only fetch the fields they render (summary: title + short description)
+    @Query("SELECT t FROM Translation t WHERE t.entityType = :entityType AND t.entityId IN :entityIds " +
+            "AND t.fieldName IN :fieldNames")
+    List<Translation> findByEntityTypeAndEntityIdInAndFieldNameIn(
+            @Param("entityType") String entityType,
+            @Param("entityIds") List<Long> entityIds,
+            @Param("fieldNames") Collection<TranslationField> fieldNames
+    );
+
+    @Query("SELECT t FROM Translation t WHERE t.entityType = :entityType AND t.entityId IN :entityIds " +
+            "AND t.languageCode = :languageCode AND t.fieldName IN :fieldNames")
+    List<Translation> findByEntityTypeAndEntityIdInAndLanguageCodeAndFieldNameIn(
+            @Param("entityType") String entityType,
+            @Param("entityIds") List<Long> entityIds,
+            @Param("languageCode") LanguageCode languageCode,
+            @Param("fieldNames") Collection<TranslationField> fieldNames
+    );
+
+    // Writes one value; an unchanged value is neither updated nor re-indexed. The id comes from the
+    // column default (translations_id_seq)
+    @Modifying
+    @NativeQuery("""
+            INSERT INTO translations (entity_type, entity_id, field_name, language_code, value)
+            VALUES (:entityType, :entityId, :fieldName, :languageCode, :value)
+            ON CONFLICT (entity_type, entity_id, field_name, language_code)
+            DO UPDATE SET value = EXCLUDED.value
+            WHERE translations.value IS DISTINCT FROM EXCLUDED.value
+            """)
+    int upsert(@Param("entityType") String entityType,
+               @Param("entityId") Long entityId,
+               @Param("fieldName") String fieldName,
+               @Param("languageCode") String languageCode,
+               @Param("value") String value);
+}
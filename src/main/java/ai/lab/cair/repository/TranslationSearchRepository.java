@@ -0,0 +1,15 @@
+package ai.lab.cair.repository;
+
+import ai.lab.cair.entity.enums.LanguageCode;
+
+import java.util.List;
+
+// Full-text search over translations.search_vector (changeset 11)
+public interface TranslationSearchRepository {
+    // websearch syntax: words, "quoted phrases", or, -excluded. At most limit entities of each type, best
+    // ranked first; an entity's rank adds up over its matching fields
+    List<SearchHit> search(String query, LanguageCode language, int limit);
+
+    record SearchHit(String entityType, Long entityId, double rank) {
+    }
+}
@@ -0,0 +1,49 @@
+package ai.lab.cair.repository;
+
+import ai.lab.cair.entity.enums.LanguageCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+class TranslationSearchRepositoryImpl implements TranslationSearchRepository {
+    // The language and its text search config are literals, not parameters: the planner can then use the
+    // language's partial index, and the query is stemmed like the indexed values
+    private static final String SEARCH = """
+            SELECT entity_type, entity_id, rank FROM (
+                SELECT t.entity_type, t.entity_id, sum(ts_rank(t.search_vector, q.query)) AS rank,
+                       row_number() OVER (PARTITION BY t.entity_type
+                               ORDER BY sum(ts_rank(t.search_vector, q.query)) DESC, t.entity_id) AS position
+                FROM translations t, websearch_to_tsquery('%2$s'::regconfig, :query) AS q(query)
+                WHERE t.language_code = '%1$s' AND t.search_vector @@ q.query
+                GROUP BY t.entity_type, t.entity_id
+            ) ranked
+            WHERE position <= :limit
+            ORDER BY entity_type, rank DESC, entity_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchHit> search(String query, LanguageCode language, int limit) {
+        List<Object[]> rows = entityManager
+                .createNativeQuery(SEARCH.formatted(language.name(), textSearchConfig(language)))
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new SearchHit((String) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).doubleValue()))
+                .toList();
+    }
+
+    // Must match the configs of the search_vector column
+    private static String textSearchConfig(LanguageCode language) {
+        return switch (language) {
+            case EN -> "english";
+            case RU -> "russian";
+            case KZ -> "simple";
+        };
+    }
+}
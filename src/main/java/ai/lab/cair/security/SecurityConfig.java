@@ -71,16 +71,25 @@ public class SecurityConfig {
                     .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/refresh-token").permitAll()
                     .requestMatchers("/auth/logout").authenticated()
 
+                    // Full dumps are not public, unlike the rest of GET
+                    .requestMatchers(HttpMethod.GET, "/team-members/export", "/projects/export").hasRole("ADMIN")
+
                     .requestMatchers(HttpMethod.GET, "/team-members/**").permitAll()
                     .requestMatchers(HttpMethod.POST, "/team-members/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.PUT, "/team-members/**").hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.PATCH, "/team-members/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.DELETE, "/team-members/**").hasRole("ADMIN")
 
                     .requestMatchers(HttpMethod.GET, "/projects/**").permitAll()
                     .requestMatchers(HttpMethod.POST, "/projects/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.PUT, "/projects/**").hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.PATCH, "/projects/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.DELETE, "/projects/**").hasRole("ADMIN")
 
+                    .requestMatchers(HttpMethod.GET, "/search").permitAll()
+
+                    .requestMatchers("/cache/**").hasRole("ADMIN")
+
                     .anyRequest().authenticated();
         });
 
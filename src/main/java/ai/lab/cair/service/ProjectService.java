@@ -1,21 +1,70 @@
 package ai.lab.cair.service;
 
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.PageCursor;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ProjectFilter;
+import ai.lab.cair.dto.request.ProjectPatchDto;
 import ai.lab.cair.dto.request.ProjectRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedProjectResponseDto;
 import ai.lab.cair.dto.response.ProjectResponseDto;
+import ai.lab.cair.dto.response.ProjectWithTeamResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+
 public interface ProjectService {
     ProjectResponseDto createProject(ProjectRequestDto requestDto);
 
+    // Body: NDJSON or a JSON array of ProjectRequestDto; rows are written in batches as they are read
+    ImportReport importProjects(InputStream body);
+
+    // Streams every project to out in id order, with all translations; memory use does not grow with the row count
+    void exportProjects(OutputStream out, ExportFormat format) throws IOException;
+
     ProjectResponseDto getProjectById(Long id);
 
     ProjectResponseDto getProjectBySlug(String slug);
 
-    PaginatedResponse<ProjectResponseDto> getAllProjects(Pageable pageable);
+    // ?expand=team: the project with its team members resolved
+    ProjectWithTeamResponseDto getProjectWithTeamById(Long id);
+
+    ProjectWithTeamResponseDto getProjectWithTeamBySlug(String slug);
+
+    // fields: translated fields to include, see ProjectFields; ProjectFilter.NONE for all projects
+    PaginatedResponse<ProjectResponseDto> getAllProjects(Pageable pageable, Set<TranslationField> fields,
+                                                         ProjectFilter filter);
+
+    // Keyset pagination: the cost of a page does not depend on its depth
+    CursorPage<ProjectResponseDto> scrollProjects(PageCursor cursor, int size, Set<TranslationField> fields);
+
+    // Projects whose team includes the team member, newest first
+    List<ProjectResponseDto> getProjectsOfTeamMember(Long teamMemberId, Set<TranslationField> fields);
+
+    LocalizedProjectResponseDto getLocalizedProjectById(Long id, LanguageCode language);
+
+    LocalizedProjectResponseDto getLocalizedProjectBySlug(String slug, LanguageCode language);
+
+    PaginatedResponse<LocalizedProjectResponseDto> getAllLocalizedProjects(Pageable pageable, LanguageCode language,
+                                                                           Set<TranslationField> fields,
+                                                                           ProjectFilter filter);
+
+    CursorPage<LocalizedProjectResponseDto> scrollLocalizedProjects(PageCursor cursor, int size, LanguageCode language,
+                                                                    Set<TranslationField> fields);
 
     ProjectResponseDto updateProject(Long id, ProjectRequestDto requestDto);
 
+    // Only the non-null fields of the patch are applied
+    ProjectResponseDto patchProject(Long id, ProjectPatchDto patchDto);
+
     void deleteProject(Long id);
 }
 
@@ -0,0 +1,9 @@
+package ai.lab.cair.service;
+
+import ai.lab.cair.dto.response.SearchResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
+
+public interface SearchService {
+    // Titles, descriptions, roles and bios in the given language; at most limit projects and limit team members
+    SearchResponseDto search(String query, LanguageCode language, int limit);
+}
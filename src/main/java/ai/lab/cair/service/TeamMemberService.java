@@ -1,19 +1,54 @@
 package ai.lab.cair.service;
 
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.PageCursor;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.request.TeamMemberPatchDto;
 import ai.lab.cair.dto.request.TeamMemberRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedTeamMemberResponseDto;
 import ai.lab.cair.dto.response.TeamMemberResponseDto;
+import ai.lab.cair.entity.enums.LanguageCode;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
 public interface TeamMemberService {
     TeamMemberResponseDto createTeamMember(TeamMemberRequestDto requestDto);
 
+    // Body: NDJSON or a JSON array of TeamMemberRequestDto; rows are written in batches as they are read
+    ImportReport importTeamMembers(InputStream body);
+
+    // Streams every team member to out in id order, with all translations; memory use does not grow with the row count
+    void exportTeamMembers(OutputStream out, ExportFormat format) throws IOException;
+
     TeamMemberResponseDto getTeamMemberById(Long id);
 
-    PaginatedResponse<TeamMemberResponseDto> getAllTeamMembers(Pageable pageable);
+    // In the order of ids; unknown ids are skipped. Cached members cost no query, the rest share one
+    List<TeamMemberResponseDto> getTeamMembersByIds(List<Long> ids);
+
+    // expertise: see FilterValues, empty for all team members
+    PaginatedResponse<TeamMemberResponseDto> getAllTeamMembers(Pageable pageable, List<String> expertise);
+
+    // Keyset pagination: the cost of a page does not depend on its depth
+    CursorPage<TeamMemberResponseDto> scrollTeamMembers(PageCursor cursor, int size);
+
+    LocalizedTeamMemberResponseDto getLocalizedTeamMemberById(Long id, LanguageCode language);
+
+    PaginatedResponse<LocalizedTeamMemberResponseDto> getAllLocalizedTeamMembers(Pageable pageable, LanguageCode language,
+                                                                                 List<String> expertise);
+
+    CursorPage<LocalizedTeamMemberResponseDto> scrollLocalizedTeamMembers(PageCursor cursor, int size, LanguageCode language);
 
     TeamMemberResponseDto updateTeamMember(Long id, TeamMemberRequestDto requestDto);
 
+    // Only the non-null fields of the patch are applied
+    TeamMemberResponseDto patchTeamMember(Long id, TeamMemberPatchDto patchDto);
+
     void deleteTeamMember(Long id);
 }
 
@@ -0,0 +1,104 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.dto.response.ImportReport;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a bulk import body row by row, so memory use does not grow with the body: either a JSON array
+ * or NDJSON (one object per line). Each row is validated like a single-item request; valid rows are
+ * handed to the writer in batches, invalid ones are reported without reaching it.
+ */
+@Component
+@RequiredArgsConstructor
+class BulkImportReader {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    <T> ImportReport read(InputStream body, Class<T> type, BatchWriter<T> writer) {
+        ImportReport report = new ImportReport();
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        // 1-based number of the row being read
+        int row = 1;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                // Read as a tree first: a row that does not bind leaves the parser at the next row
+                JsonNode node = parser.readValueAsTree();
+                String error = bind(node, type, batch, row);
+                if (error != null) {
+                    report.failed(row, error);
+                }
+                if (batch.size() == batchSize) {
+                    writer.write(batch, report);
+                    batch.clear();
+                }
+                row++;
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            // Rows before the malformed one are still imported; nothing after it can be read
+            report.failed(row, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import body", e);
+        }
+        if (!batch.isEmpty()) {
+            writer.write(batch, report);
+        }
+        report.getRows().sort(Comparator.comparingInt(ImportReport.RowResult::getRow));
+        return report;
+    }
+
+    private <T> String bind(JsonNode node, Class<T> type, List<Row<T>> batch, int row) {
+        T value;
+        try {
+            value = objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            return "Invalid row: " + e.getOriginalMessage();
+        }
+        if (value == null) {
+            return "Invalid row: null";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        batch.add(new Row<>(row, value));
+        return null;
+    }
+
+    record Row<T>(int row, T value) {
+    }
+
+    @FunctionalInterface
+    interface BatchWriter<T> {
+        // Reports every row of the batch, imported or failed
+        void write(List<Row<T>> rows, ImportReport report);
+    }
+}
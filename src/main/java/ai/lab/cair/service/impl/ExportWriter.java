@@ -0,0 +1,87 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.dto.base.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes export records to the response one at a time, so nothing but the current record is held in
+ * memory. NDJSON carries each record as its JSON response body; CSV flattens it into the given columns.
+ */
+@Component
+@RequiredArgsConstructor
+class ExportWriter {
+    private final ObjectMapper objectMapper;
+
+    // columns: JSON pointers into a record, e.g. "/title/en"; only used for CSV
+    <T> Sink<T> open(OutputStream out, ExportFormat format, List<String> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, columns.stream().map(column -> column.substring(1).replace('/', '.')).toList());
+        }
+        return new Sink<>(writer, format, columns);
+    }
+
+    private void writeCsvRow(Writer writer, List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(cells.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // Lists and nested objects go into a single cell as JSON
+    private String csvCell(JsonNode value) {
+        if (value.isMissingNode() || value.isNull()) {
+            return "";
+        }
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+
+    private static String escapeCsv(String cell) {
+        if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+            return cell;
+        }
+        return '"' + cell.replace("\"", "\"\"") + '"';
+    }
+
+    class Sink<T> implements AutoCloseable {
+        private final Writer writer;
+        private final ExportFormat format;
+        private final List<String> columns;
+
+        private Sink(Writer writer, ExportFormat format, List<String> columns) {
+            this.writer = writer;
+            this.format = format;
+            this.columns = columns;
+        }
+
+        void write(T record) throws IOException {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(record));
+                writer.write('\n');
+                return;
+            }
+            JsonNode node = objectMapper.valueToTree(record);
+            writeCsvRow(writer, columns.stream().map(column -> csvCell(node.at(column))).toList());
+        }
+
+        // Flushes what is buffered; the response stream itself is closed by the container
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
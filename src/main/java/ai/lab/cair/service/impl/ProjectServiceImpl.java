@@ -1,121 +1,507 @@
 package ai.lab.cair.service.impl;
 
+import ai.lab.cair.cache.CacheKeys;
+import ai.lab.cair.cache.CacheReloader;
+import ai.lab.cair.cache.EntityCounts;
+import ai.lab.cair.cache.ProjectSlugDirectory;
+import ai.lab.cair.cache.Transactions;
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.PageCursor;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ProjectFilter;
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.dto.base.ScrollKeys;
+import ai.lab.cair.dto.request.ProjectPatchDto;
 import ai.lab.cair.dto.request.ProjectRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedProjectResponseDto;
 import ai.lab.cair.dto.response.ProjectResponseDto;
+import ai.lab.cair.dto.response.ProjectWithTeamResponseDto;
 import ai.lab.cair.entity.Project;
 import ai.lab.cair.entity.Translation;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
 import ai.lab.cair.exception.DbObjectNotFoundException;
 import ai.lab.cair.mapper.ProjectMapper;
+import ai.lab.cair.mapper.TranslationRows;
+import ai.lab.cair.repository.NativeQueries;
 import ai.lab.cair.repository.ProjectRepository;
+import ai.lab.cair.repository.TeamMemberRepository;
 import ai.lab.cair.repository.TranslationRepository;
 import ai.lab.cair.service.ProjectService;
+import ai.lab.cair.service.TeamMemberService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
-public class ProjectServiceImpl implements ProjectService {
+public class ProjectServiceImpl implements ProjectService, CacheReloader {
     private final ProjectRepository projectRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamMemberService teamMemberService;
     private final TranslationRepository translationRepository;
     private final ProjectMapper projectMapper;
+    private final EntityCounts entityCounts;
+    private final TranslationWriter translationWriter;
+    private final CacheManager cacheManager;
+    private final ProjectSlugDirectory slugDirectory;
+    private final BulkImportReader importReader;
+    private final TransactionTemplate transactionTemplate;
+    private final ExportWriter exportWriter;
+    private final EntityManager entityManager;
+    // Matches the fetch size of ProjectRepository.streamAll
+    private static final int EXPORT_CHUNK = 500;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "/id",
+            "/slug",
+            "/title/en",
+            "/title/ru",
+            "/title/kz",
+            "/shortDescription/en",
+            "/shortDescription/ru",
+            "/shortDescription/kz",
+            "/fullDescription/en",
+            "/fullDescription/ru",
+            "/fullDescription/kz",
+            "/image",
+            "/tags",
+            "/status",
+            "/startDate",
+            "/endDate",
+            "/team",
+            "/objectives/en",
+            "/objectives/ru",
+            "/objectives/kz",
+            "/results/en",
+            "/results/ru",
+            "/results/kz",
+            "/createdAt",
+            "/updatedAt");
     private static final String ENTITY_TYPE = "Project";
+    // Postgres' name for the UNIQUE on projects.slug (changeset 6)
+    private static final String SLUG_CONSTRAINT = "projects_slug_key";
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectById", allEntries = true),
-            @CacheEvict(value = "projectBySlug", allEntries = true)
-    })
     public ProjectResponseDto createProject(ProjectRequestDto requestDto) {
-        // Check if slug already exists
-        if (projectRepository.existsBySlug(requestDto.getSlug())) {
-            throw new IllegalArgumentException("Project with slug '" + requestDto.getSlug() + "' already exists");
-        }
-
         Project project = projectMapper.toEntity(requestDto);
-        Project savedProject = projectRepository.save(project);
+        Project savedProject = saveUnique(project);
+        replaceTeam(savedProject.getId(), requestDto.getTeam());
 
         // Save translations
         List<Translation> translations = projectMapper.createTranslations(savedProject.getId(), requestDto);
         translationRepository.saveAll(translations);
 
+        slugDirectory.register(savedProject.getSlug(), savedProject.getId());
+        entityCounts.added(EntityCounts.PROJECTS, savedProject.getStatus());
+        clearListsAfterCommit();
+
         return projectMapper.toDto(savedProject, translations);
     }
 
+    @Override
+    public ImportReport importProjects(InputStream body) {
+        return importReader.read(body, ProjectRequestDto.class, this::importBatch);
+    }
+
+    private void importBatch(List<BulkImportReader.Row<ProjectRequestDto>> rows, ImportReport report) {
+        // Slugs the directory already knows, or repeated within the batch, fail up front; the unique
+        // constraint still catches the rest
+        List<BulkImportReader.Row<ProjectRequestDto>> accepted = new ArrayList<>();
+        Set<String> batchSlugs = new HashSet<>();
+        for (BulkImportReader.Row<ProjectRequestDto> row : rows) {
+            String slug = row.value().getSlug();
+            if (slugDirectory.isKnown(slug) || !batchSlugs.add(slug)) {
+                report.failed(row.row(), slugTaken(slug));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Project> projects = transactionTemplate.execute(status -> insertProjects(accepted));
+            for (int i = 0; i < projects.size(); i++) {
+                report.imported(accepted.get(i).row(), projects.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // The batch was rolled back as a whole; retried row by row, only the conflicting rows fail
+            for (BulkImportReader.Row<ProjectRequestDto> row : accepted) {
+                try {
+                    Project project = transactionTemplate.execute(status -> insertProjects(List.of(row))).getFirst();
+                    report.imported(row.row(), project.getId());
+                } catch (DataIntegrityViolationException rowError) {
+                    report.failed(row.row(), violates(rowError, SLUG_CONSTRAINT) ? slugTaken(row.value().getSlug())
+                            : "Conflicts with existing data");
+                }
+            }
+        }
+    }
+
+    // Batched INSERTs for the projects and all their translations; caches, counts and the slug directory
+    // are updated once for the whole batch after commit
+    private List<Project> insertProjects(List<BulkImportReader.Row<ProjectRequestDto>> rows) {
+        List<Project> projects = projectRepository.saveAll(
+                rows.stream().map(row -> projectMapper.toEntity(row.value())).toList());
+        List<Translation> translations = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            translations.addAll(projectMapper.createTranslations(projects.get(i).getId(), rows.get(i).value()));
+        }
+        translationRepository.saveAll(translations);
+        projectRepository.flush();
+
+        List<Long> projectIds = new ArrayList<>();
+        List<Long> teamMemberIds = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            for (Long teamMemberId : teamMemberIds(rows.get(i).value().getTeam())) {
+                projectIds.add(projects.get(i).getId());
+                teamMemberIds.add(teamMemberId);
+            }
+        }
+        projectRepository.addTeamMembers(projectIds.toArray(Long[]::new), teamMemberIds.toArray(Long[]::new));
+
+        slugDirectory.registerAll(projects.stream().collect(Collectors.toMap(Project::getSlug, Project::getId)));
+        projects.stream()
+                .collect(Collectors.groupingBy(Project::getStatus, Collectors.counting()))
+                .forEach((status, count) -> entityCounts.added(EntityCounts.PROJECTS, status, count));
+        clearListsAfterCommit();
+        return projects;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProjects(OutputStream out, ExportFormat format) throws IOException {
+        try (Stream<Project> projects = projectRepository.streamAll();
+             ExportWriter.Sink<ProjectResponseDto> sink = exportWriter.open(out, format, CSV_COLUMNS)) {
+            List<Project> chunk = new ArrayList<>(EXPORT_CHUNK);
+            Iterator<Project> iterator = projects.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK || !iterator.hasNext()) {
+                    export(chunk, sink);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    // One translations query per chunk; the chunk is then detached, so the persistence context stays small
+    private void export(List<Project> chunk, ExportWriter.Sink<ProjectResponseDto> sink) throws IOException {
+        var translationsByEntityId = translationRepository
+                .findByEntityTypeAndEntityIdIn(ENTITY_TYPE, chunk.stream().map(Project::getId).toList()).stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
+        for (Project project : chunk) {
+            sink.write(projectMapper.toDto(project, translationsByEntityId.getOrDefault(project.getId(), List.of())));
+        }
+        entityManager.clear();
+    }
+
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectById", key = "#id")
+    @Cacheable(value = "projectById", key = "#id", sync = true)
     public ProjectResponseDto getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        return loadProject(id);
+    }
+
+    @Override
+    public ProjectResponseDto getProjectBySlug(String slug) {
+        Long id = resolveSlug(slug);
+        return cached("projectById", id, () -> loadProject(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedProjectById",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(#id, #language)", sync = true)
+    public LocalizedProjectResponseDto getLocalizedProjectById(Long id, LanguageCode language) {
+        return loadLocalizedProject(id, language);
+    }
+
+    @Override
+    public LocalizedProjectResponseDto getLocalizedProjectBySlug(String slug, LanguageCode language) {
+        Long id = resolveSlug(slug);
+        return cached("localizedProjectById", CacheKeys.localized(id, language),
+                () -> loadLocalizedProject(id, language));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "projects", key = "T(ai.lab.cair.cache.CacheKeys).teamMember(#teamMemberId, #fields)",
+            sync = true)
+    public List<ProjectResponseDto> getProjectsOfTeamMember(Long teamMemberId, Set<TranslationField> fields) {
+        List<Object[]> rows = projectRepository.findWithTranslationsByTeamMemberId(
+                teamMemberId, fieldNames(fields), null);
+        // An empty result needs telling apart from an unknown team member
+        if (rows.isEmpty() && !teamMemberRepository.existsById(teamMemberId)) {
+            throw new DbObjectNotFoundException(
+                    HttpStatus.NOT_FOUND,
+                    "TEAM_MEMBER_NOT_FOUND",
+                    "Team member not found with id: " + teamMemberId
+            );
+        }
+
+        // ArrayList, so the cached value deserializes
+        return new ArrayList<>(rows.stream().map(row -> {
+            Project project = (Project) row[0];
+            List<Translation> translations = TranslationRows.parse(ENTITY_TYPE, project.getId(), (String) row[1]);
+            return projectMapper.toDto(project, translations, fields);
+        }).toList());
+    }
+
+    @Override
+    public ProjectWithTeamResponseDto getProjectWithTeamById(Long id) {
+        return withTeam(cached("projectById", id, () -> loadProject(id)));
+    }
+
+    @Override
+    public ProjectWithTeamResponseDto getProjectWithTeamBySlug(String slug) {
+        Long id = resolveSlug(slug);
+        return withTeam(cached("projectById", id, () -> loadProject(id)));
+    }
+
+    // Both halves come from their own caches, so each stays as fresh as its evictions make it
+    private ProjectWithTeamResponseDto withTeam(ProjectResponseDto project) {
+        List<Long> teamMemberIds = project.getTeam().stream()
+                .filter(ProjectServiceImpl::isId)
+                .map(Long::valueOf)
+                .toList();
+        return new ProjectWithTeamResponseDto(project, teamMemberService.getTeamMembersByIds(teamMemberIds));
+    }
+
+    // Slugs resolve from the in-memory directory; one it does not know is a 404 without a DB query
+    private Long resolveSlug(String slug) {
+        return slugDirectory.resolve(slug)
                 .orElseThrow(() -> new DbObjectNotFoundException(
                         HttpStatus.NOT_FOUND,
                         "PROJECT_NOT_FOUND",
-                        "Project not found with id: " + id
+                        "Project not found with slug: " + slug
                 ));
+    }
 
-        List<Translation> translations = translationRepository.findByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        return projectMapper.toDto(project, translations);
+    @Override
+    public Set<String> reloadableCaches() {
+        return Set.of("projectById", "localizedProjectById");
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "projectBySlug", key = "#slug")
-    public ProjectResponseDto getProjectBySlug(String slug) {
-        Project project = projectRepository.findBySlug(slug)
+    public Object reload(String cacheName, Object key) {
+        return switch (cacheName) {
+            case "projectById" -> loadProject(Long.valueOf(String.valueOf(key)));
+            case "localizedProjectById" -> {
+                CacheKeys.Localized localized = CacheKeys.parseLocalized(key);
+                yield loadLocalizedProject(localized.id(), localized.language());
+            }
+            default -> throw new IllegalArgumentException("Cannot reload cache " + cacheName);
+        };
+    }
+
+    private <T> T cached(String cacheName, Object key, Callable<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        try {
+            return cache != null ? cache.get(key, loader) : loader.call();
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ProjectResponseDto loadProject(Long id) {
+        Object[] row = findWithTranslations(id, null);
+        return projectMapper.toDto((Project) row[0], TranslationRows.parse(ENTITY_TYPE, id, (String) row[1]));
+    }
+
+    private LocalizedProjectResponseDto loadLocalizedProject(Long id, LanguageCode language) {
+        Object[] row = findWithTranslations(id, language);
+        return projectMapper.toLocalizedDto(
+                (Project) row[0], TranslationRows.parse(ENTITY_TYPE, id, (String) row[1]), language);
+    }
+
+    // Project and its translations in one statement instead of two sequential queries
+    private Object[] findWithTranslations(Long id, LanguageCode language) {
+        return projectRepository.findWithTranslationsById(id, fieldNames(ProjectFields.ALL), languageName(language))
+                .stream()
+                .findFirst()
                 .orElseThrow(() -> new DbObjectNotFoundException(
                         HttpStatus.NOT_FOUND,
                         "PROJECT_NOT_FOUND",
-                        "Project not found with slug: " + slug
+                        "Project not found with id: " + id
                 ));
+    }
+
+    private static List<String> fieldNames(Set<TranslationField> fields) {
+        return fields.stream().map(Enum::name).toList();
+    }
 
-        List<Translation> translations = translationRepository.findByEntityTypeAndEntityId(ENTITY_TYPE, project.getId());
-        return projectMapper.toDto(project, translations);
+    private static String languageName(LanguageCode language) {
+        return language != null ? language.name() : null;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<ProjectResponseDto> getAllProjects(Pageable pageable) {
-        Page<Project> projectsPage = projectRepository.findAll(pageable);
+    @Cacheable(value = "projects",
+            key = "T(ai.lab.cair.cache.CacheKeys).filtered(T(ai.lab.cair.cache.CacheKeys).page(#pageable, #fields), #filter)",
+            sync = true)
+    public PaginatedResponse<ProjectResponseDto> getAllProjects(Pageable pageable, Set<TranslationField> fields,
+                                                                ProjectFilter filter) {
+        // Page rows with their translations aggregated in the same statement. Only the requested fields:
+        // summaries never load full descriptions, objectives or results
+        List<Object[]> rows = findPage(fieldNames(fields), null, filter, pageable);
+
+        List<ProjectResponseDto> content = rows.stream().map(row -> {
+            Project project = (Project) row[0];
+            List<Translation> translations = TranslationRows.parse(ENTITY_TYPE, project.getId(), (String) row[1]);
+            return projectMapper.toDto(project, translations, fields);
+        }).toList();
+
+        long total = countPage(filter);
+        return new PaginatedResponse<>(new PageImpl<>(content, pageable, total));
+    }
 
-        // Batch load all translations to avoid N+1 problem
-        List<Long> projectIds = projectsPage.getContent().stream()
-                .map(Project::getId)
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "projects", key = "T(ai.lab.cair.cache.CacheKeys).scroll(#cursor, #size, #fields)", sync = true)
+    public CursorPage<ProjectResponseDto> scrollProjects(PageCursor cursor, int size, Set<TranslationField> fields) {
+        Window<Project> window = scroll(cursor, size);
+
+        var translationsByEntityId = translationRepository
+                .findByEntityTypeAndEntityIdInAndFieldNameIn(ENTITY_TYPE, ids(window), fields).stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
+
+        List<ProjectResponseDto> content = window.stream()
+                .map(project -> projectMapper.toDto(
+                        project, translationsByEntityId.getOrDefault(project.getId(), List.of()), fields))
                 .toList();
-        
-        List<Translation> allTranslations = translationRepository
-                .findByEntityTypeAndEntityIdIn(ENTITY_TYPE, projectIds);
-        
-        // Group translations by entity ID for efficient lookup
-        var translationsByEntityId = allTranslations.stream()
-                .collect(java.util.stream.Collectors.groupingBy(Translation::getEntityId));
-
-        Page<ProjectResponseDto> responsePage = projectsPage.map(project -> {
-            List<Translation> translations = translationsByEntityId
-                    .getOrDefault(project.getId(), List.of());
-            return projectMapper.toDto(project, translations);
-        });
+        return new CursorPage<>(content, size, nextCursor(cursor, window));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedProjects",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(T(ai.lab.cair.cache.CacheKeys).filtered("
+                    + "T(ai.lab.cair.cache.CacheKeys).page(#pageable, #fields), #filter), #language)",
+            sync = true)
+    public PaginatedResponse<LocalizedProjectResponseDto> getAllLocalizedProjects(Pageable pageable, LanguageCode language,
+                                                                                  Set<TranslationField> fields,
+                                                                                  ProjectFilter filter) {
+        // Only the requested language's rows of the requested fields, in the same statement as the page
+        List<Object[]> rows = findPage(fieldNames(fields), language.name(), filter, pageable);
+
+        List<LocalizedProjectResponseDto> content = rows.stream().map(row -> {
+            Project project = (Project) row[0];
+            List<Translation> translations = TranslationRows.parse(ENTITY_TYPE, project.getId(), (String) row[1]);
+            return projectMapper.toLocalizedDto(project, translations, language, fields);
+        }).toList();
+
+        long total = countPage(filter);
+        return new PaginatedResponse<>(new PageImpl<>(content, pageable, total));
+    }
+
+    private List<Object[]> findPage(List<String> fieldNames, String languageCode, ProjectFilter filter,
+                                    Pageable pageable) {
+        Pageable columnSorted = NativeQueries.columnSort(pageable, NativeQueries.PROJECT_SORT_COLUMNS);
+        if (filter.isEmpty()) {
+            return projectRepository.findPageWithTranslations(fieldNames, languageCode, columnSorted);
+        }
+        return projectRepository.findMatchingWithTranslations(filter, fieldNames, languageCode, columnSorted);
+    }
+
+    private long countPage(ProjectFilter filter) {
+        // Totals from the maintained counters instead of a COUNT(*) per page, where they exist
+        if (filter.isEmpty()) {
+            return entityCounts.count(EntityCounts.PROJECTS);
+        }
+        if (filter.isStatusOnly()) {
+            return entityCounts.count(EntityCounts.PROJECTS, filter.status());
+        }
+        // Other filters count once per filter; the entry goes with the rest of "projects" on any project write.
+        // Number: a small count comes back from Redis as an Integer
+        return this.<Number>cached("projects", CacheKeys.count(filter), () -> projectRepository.countMatching(filter))
+                .longValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedProjects",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(T(ai.lab.cair.cache.CacheKeys).scroll(#cursor, #size, #fields), #language)",
+            sync = true)
+    public CursorPage<LocalizedProjectResponseDto> scrollLocalizedProjects(PageCursor cursor, int size,
+                                                                           LanguageCode language,
+                                                                           Set<TranslationField> fields) {
+        Window<Project> window = scroll(cursor, size);
+
+        var translationsByEntityId = translationRepository
+                .findByEntityTypeAndEntityIdInAndLanguageCodeAndFieldNameIn(ENTITY_TYPE, ids(window), language, fields)
+                .stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
+
+        List<LocalizedProjectResponseDto> content = window.stream()
+                .map(project -> projectMapper.toLocalizedDto(
+                        project, translationsByEntityId.getOrDefault(project.getId(), List.of()), language, fields))
+                .toList();
+        return new CursorPage<>(content, size, nextCursor(cursor, window));
+    }
+
+    private Window<Project> scroll(PageCursor cursor, int size) {
+        if (size < 1 || size > ScrollKeys.MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + ScrollKeys.MAX_SIZE);
+        }
+        return projectRepository.findBy(cursor.position(ScrollKeys.PROJECTS), cursor.sort(), Limit.of(size));
+    }
 
-        return new PaginatedResponse<>(responsePage);
+    private static List<Long> ids(Window<Project> window) {
+        return window.stream().map(Project::getId).toList();
+    }
+
+    private static PageCursor nextCursor(PageCursor cursor, Window<Project> window) {
+        if (!window.hasNext()) {
+            return null;
+        }
+        return PageCursor.after(cursor, (KeysetScrollPosition) window.positionAt(window.size() - 1));
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectById", key = "#id"),
-            @CacheEvict(value = "projectBySlug", allEntries = true)
-    })
     public ProjectResponseDto updateProject(Long id, ProjectRequestDto requestDto) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new DbObjectNotFoundException(
@@ -124,40 +510,171 @@ public class ProjectServiceImpl implements ProjectService {
                         "Project not found with id: " + id
                 ));
 
-        // Check if slug is being changed and if new slug already exists
-        if (!project.getSlug().equals(requestDto.getSlug()) && projectRepository.existsBySlug(requestDto.getSlug())) {
-            throw new IllegalArgumentException("Project with slug '" + requestDto.getSlug() + "' already exists");
-        }
+        String oldSlug = project.getSlug();
+        String oldStatus = project.getStatus();
 
         projectMapper.updateEntity(project, requestDto);
-        Project updatedProject = projectRepository.save(project);
+        // Bumped even when only translations changed: the ETag is derived from id + updatedAt
+        project.setUpdatedAt(LocalDateTime.now());
+        Project updatedProject = saveUnique(project);
+        replaceTeam(id, requestDto.getTeam());
 
-        // Update translations
-        translationRepository.deleteByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        List<Translation> translations = projectMapper.createTranslations(id, requestDto);
-        translationRepository.saveAll(translations);
+        // Only changed values are written
+        List<Translation> translations = translationWriter
+                .replace(ENTITY_TYPE, id, projectMapper.createTranslations(id, requestDto))
+                .translations();
+
+        if (!oldSlug.equals(updatedProject.getSlug())) {
+            slugDirectory.unregister(oldSlug);
+            slugDirectory.register(updatedProject.getSlug(), id);
+        }
+        entityCounts.statusChanged(EntityCounts.PROJECTS, oldStatus, updatedProject.getStatus());
+        evictAfterWrite(id);
 
         return projectMapper.toDto(updatedProject, translations);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", allEntries = true),
-            @CacheEvict(value = "projectById", key = "#id"),
-            @CacheEvict(value = "projectBySlug", allEntries = true)
-    })
-    public void deleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new DbObjectNotFoundException(
-                    HttpStatus.NOT_FOUND,
-                    "PROJECT_NOT_FOUND",
-                    "Project not found with id: " + id
-            );
+    public ProjectResponseDto patchProject(Long id, ProjectPatchDto patchDto) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new DbObjectNotFoundException(
+                        HttpStatus.NOT_FOUND,
+                        "PROJECT_NOT_FOUND",
+                        "Project not found with id: " + id
+                ));
+
+        String oldSlug = project.getSlug();
+        String oldStatus = project.getStatus();
+
+        List<Object> before = state(project);
+        projectMapper.patchEntity(project, patchDto);
+        boolean projectChanged = !before.equals(state(project));
+        if (projectChanged) {
+            project.setUpdatedAt(LocalDateTime.now());
+            // Flushed before the translation statements, so a slug conflict is reported as such
+            saveUnique(project);
+            if (patchDto.getTeam() != null) {
+                replaceTeam(id, patchDto.getTeam());
+            }
+        }
+
+        TranslationWriter.TranslationChanges changes = translationWriter
+                .patch(ENTITY_TYPE, id, projectMapper.patchTranslations(id, patchDto));
+
+        if (!projectChanged && changes.isEmpty()) {
+            // Nothing to write: the version and every cached copy stay valid
+            return projectMapper.toDto(project, changes.translations());
         }
+        if (!projectChanged) {
+            // A text-only change still moves the version
+            project.setUpdatedAt(LocalDateTime.now());
+        }
+
+        if (!oldSlug.equals(project.getSlug())) {
+            slugDirectory.unregister(oldSlug);
+            slugDirectory.register(project.getSlug(), id);
+        }
+        entityCounts.statusChanged(EntityCounts.PROJECTS, oldStatus, project.getStatus());
+
+        // A change to an untranslated field shows in every language; a text change only in its own
+        evictAfterWrite(id, projectChanged ? EnumSet.allOf(LanguageCode.class) : changes.languages());
+
+        return projectMapper.toDto(project, changes.translations());
+    }
+
+    // The unique constraint on projects.slug is the uniqueness check; flushing makes a conflict surface here
+    private Project saveUnique(Project project) {
+        try {
+            return projectRepository.saveAndFlush(project);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, SLUG_CONSTRAINT)) {
+                throw new IllegalArgumentException(slugTaken(project.getSlug()));
+            }
+            throw e;
+        }
+    }
+
+    // project_team_members follows the team's id entries; names and other free text stay in projects.team only
+    private void replaceTeam(Long projectId, List<String> team) {
+        projectRepository.replaceTeam(projectId, teamMemberIds(team));
+    }
+
+    private static boolean isId(String teamMemberId) {
+        return teamMemberId != null && teamMemberId.matches("\\d{1,18}");
+    }
+
+    private static Long[] teamMemberIds(List<String> team) {
+        return team.stream().filter(ProjectServiceImpl::isId).map(Long::valueOf).distinct().toArray(Long[]::new);
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && constraint.equalsIgnoreCase(violation.getConstraintName());
+    }
+
+    private static String slugTaken(String slug) {
+        return "Project with slug '" + slug + "' already exists";
+    }
+
+    // Untranslated columns a patch can change
+    private static List<Object> state(Project project) {
+        return Arrays.asList(project.getSlug(), project.getImage(), project.getTags(), project.getStatus(),
+                project.getStartDate(), project.getEndDate(), project.getTeam());
+    }
+
+    // Every cached copy of the project, in all languages
+    private void evictAfterWrite(Long id) {
+        evictAfterWrite(id, EnumSet.allOf(LanguageCode.class));
+    }
+
+    private void evictAfterWrite(Long id, Set<LanguageCode> languages) {
+        Transactions.afterCommit(() -> {
+            evict("projectById", id);
+            languages.forEach(language -> evict("localizedProjectById", CacheKeys.localized(id, language)));
+            evict("projectWithTeamById", id);
+            // Any list page may hold the project
+            clear("projects");
+            clear("localizedProjects");
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // A new row only changes the list pages
+    private void clearListsAfterCommit() {
+        Transactions.afterCommit(() -> {
+            clear("projects");
+            clear("localizedProjects");
+        });
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteProject(Long id) {
+        // The project and its translations go in one statement; no row means there was no such project
+        ProjectRepository.DeletedProject deleted = projectRepository.deleteWithTranslations(id)
+                .orElseThrow(() -> new DbObjectNotFoundException(
+                        HttpStatus.NOT_FOUND,
+                        "PROJECT_NOT_FOUND",
+                        "Project not found with id: " + id
+                ));
 
-        translationRepository.deleteByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        projectRepository.deleteById(id);
+        slugDirectory.unregister(deleted.getSlug());
+        entityCounts.removed(EntityCounts.PROJECTS, deleted.getStatus());
+        evictAfterWrite(id);
     }
 }
 
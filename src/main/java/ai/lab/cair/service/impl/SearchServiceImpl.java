@@ -0,0 +1,100 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.dto.base.ProjectFields;
+import ai.lab.cair.dto.response.LocalizedProjectResponseDto;
+import ai.lab.cair.dto.response.LocalizedTeamMemberResponseDto;
+import ai.lab.cair.dto.response.SearchResponseDto;
+import ai.lab.cair.entity.Project;
+import ai.lab.cair.entity.TeamMember;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.mapper.ProjectMapper;
+import ai.lab.cair.mapper.TeamMemberMapper;
+import ai.lab.cair.mapper.TranslationRows;
+import ai.lab.cair.repository.ProjectRepository;
+import ai.lab.cair.repository.TeamMemberRepository;
+import ai.lab.cair.repository.TranslationRepository;
+import ai.lab.cair.repository.TranslationSearchRepository.SearchHit;
+import ai.lab.cair.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_LIMIT = 50;
+
+    private final TranslationRepository translationRepository;
+    private final ProjectRepository projectRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ProjectMapper projectMapper;
+    private final TeamMemberMapper teamMemberMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResponseDto search(String query, LanguageCode language, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<SearchHit> hits = translationRepository.search(query.trim(), language, limit);
+        return new SearchResponseDto(
+                projects(ids(hits, ProjectMapper.ENTITY_TYPE), language),
+                teamMembers(ids(hits, TeamMemberMapper.ENTITY_TYPE), language));
+    }
+
+    // In rank order
+    private static List<Long> ids(List<SearchHit> hits, String entityType) {
+        return hits.stream()
+                .filter(hit -> hit.entityType().equals(entityType))
+                .map(SearchHit::entityId)
+                .toList();
+    }
+
+    // One statement per entity type, whatever the number of hits
+    private List<LocalizedProjectResponseDto> projects(List<Long> ids, LanguageCode language) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> fieldNames = ProjectFields.SUMMARY.stream().map(Enum::name).toList();
+        Map<Long, LocalizedProjectResponseDto> byId = new HashMap<>();
+        for (Object[] row : projectRepository.findWithTranslationsByIdIn(ids, fieldNames, language.name())) {
+            Project project = (Project) row[0];
+            byId.put(project.getId(), projectMapper.toLocalizedDto(project,
+                    TranslationRows.parse(ProjectMapper.ENTITY_TYPE, project.getId(), (String) row[1]),
+                    language, ProjectFields.SUMMARY));
+        }
+        return inRankOrder(ids, byId);
+    }
+
+    private List<LocalizedTeamMemberResponseDto> teamMembers(List<Long> ids, LanguageCode language) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, LocalizedTeamMemberResponseDto> byId = new HashMap<>();
+        for (Object[] row : teamMemberRepository.findWithTranslationsByIdIn(ids, language.name())) {
+            TeamMember teamMember = (TeamMember) row[0];
+            byId.put(teamMember.getId(), teamMemberMapper.toLocalizedDto(teamMember,
+                    TranslationRows.parse(TeamMemberMapper.ENTITY_TYPE, teamMember.getId(), (String) row[1]),
+                    language));
+        }
+        return inRankOrder(ids, byId);
+    }
+
+    // Rows deleted since the search are left out
+    private static <T> List<T> inRankOrder(List<Long> ids, Map<Long, T> byId) {
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -1,41 +1,101 @@
 package ai.lab.cair.service.impl;
 
+import ai.lab.cair.cache.CacheKeys;
+import ai.lab.cair.cache.CacheReloader;
+import ai.lab.cair.cache.EntityCounts;
+import ai.lab.cair.cache.Transactions;
+import ai.lab.cair.cache.TwoLevelCache;
+import ai.lab.cair.dto.base.CursorPage;
+import ai.lab.cair.dto.base.ExportFormat;
+import ai.lab.cair.dto.base.PageCursor;
 import ai.lab.cair.dto.base.PaginatedResponse;
+import ai.lab.cair.dto.base.ScrollKeys;
+import ai.lab.cair.dto.request.TeamMemberPatchDto;
 import ai.lab.cair.dto.request.TeamMemberRequestDto;
+import ai.lab.cair.dto.response.ImportReport;
+import ai.lab.cair.dto.response.LocalizedTeamMemberResponseDto;
 import ai.lab.cair.dto.response.TeamMemberResponseDto;
 import ai.lab.cair.entity.TeamMember;
 import ai.lab.cair.entity.Translation;
+import ai.lab.cair.entity.enums.LanguageCode;
 import ai.lab.cair.exception.DbObjectNotFoundException;
 import ai.lab.cair.mapper.TeamMemberMapper;
+import ai.lab.cair.mapper.TranslationRows;
+import ai.lab.cair.repository.NativeQueries;
 import ai.lab.cair.repository.TeamMemberRepository;
 import ai.lab.cair.repository.TranslationRepository;
 import ai.lab.cair.service.TeamMemberService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
-public class TeamMemberServiceImpl implements TeamMemberService {
+public class TeamMemberServiceImpl implements TeamMemberService, CacheReloader {
     private final TeamMemberRepository teamMemberRepository;
     private final TranslationRepository translationRepository;
     private final TeamMemberMapper teamMemberMapper;
+    private final EntityCounts entityCounts;
+    private final TranslationWriter translationWriter;
+    private final CacheManager cacheManager;
+    private final BulkImportReader importReader;
+    private final TransactionTemplate transactionTemplate;
+    private final ExportWriter exportWriter;
+    private final EntityManager entityManager;
+    // Matches the fetch size of TeamMemberRepository.streamAll
+    private static final int EXPORT_CHUNK = 500;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "/id",
+            "/name",
+            "/role/en",
+            "/role/ru",
+            "/role/kz",
+            "/bio/en",
+            "/bio/ru",
+            "/bio/kz",
+            "/image",
+            "/expertise",
+            "/email",
+            "/linkedin",
+            "/github",
+            "/scholar",
+            "/createdAt",
+            "/updatedAt");
     private static final String ENTITY_TYPE = "TeamMember";
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "teamMembers", allEntries = true),
-            @CacheEvict(value = "teamMemberById", allEntries = true)
-    })
     public TeamMemberResponseDto createTeamMember(TeamMemberRequestDto requestDto) {
         TeamMember teamMember = teamMemberMapper.toEntity(requestDto);
         TeamMember savedTeamMember = teamMemberRepository.save(teamMember);
@@ -43,57 +103,322 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         // Save translations
         List<Translation> translations = teamMemberMapper.createTranslations(savedTeamMember.getId(), requestDto);
         translationRepository.saveAll(translations);
+        addToListingProjects(List.of(savedTeamMember));
+        entityCounts.added(EntityCounts.TEAM_MEMBERS, null);
+        clearListsAfterCommit();
 
         return teamMemberMapper.toDto(savedTeamMember, translations);
     }
 
+    @Override
+    public ImportReport importTeamMembers(InputStream body) {
+        return importReader.read(body, TeamMemberRequestDto.class, this::importBatch);
+    }
+
+    private void importBatch(List<BulkImportReader.Row<TeamMemberRequestDto>> rows, ImportReport report) {
+        try {
+            List<TeamMember> teamMembers = transactionTemplate.execute(status -> insertTeamMembers(rows));
+            for (int i = 0; i < teamMembers.size(); i++) {
+                report.imported(rows.get(i).row(), teamMembers.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // The batch was rolled back as a whole; retried row by row, only the offending rows fail
+            for (BulkImportReader.Row<TeamMemberRequestDto> row : rows) {
+                try {
+                    TeamMember teamMember = transactionTemplate
+                            .execute(status -> insertTeamMembers(List.of(row))).getFirst();
+                    report.imported(row.row(), teamMember.getId());
+                } catch (DataIntegrityViolationException rowError) {
+                    report.failed(row.row(), "Conflicts with existing data");
+                }
+            }
+        }
+    }
+
+    // Batched INSERTs for the team members and all their translations; caches and counts are updated once
+    // for the whole batch after commit
+    private List<TeamMember> insertTeamMembers(List<BulkImportReader.Row<TeamMemberRequestDto>> rows) {
+        List<TeamMember> teamMembers = teamMemberRepository.saveAll(
+                rows.stream().map(row -> teamMemberMapper.toEntity(row.value())).toList());
+        List<Translation> translations = new ArrayList<>();
+        for (int i = 0; i < teamMembers.size(); i++) {
+            translations.addAll(teamMemberMapper.createTranslations(teamMembers.get(i).getId(), rows.get(i).value()));
+        }
+        translationRepository.saveAll(translations);
+        addToListingProjects(teamMembers);
+
+        entityCounts.added(EntityCounts.TEAM_MEMBERS, null, teamMembers.size());
+        clearListsAfterCommit();
+        return teamMembers;
+    }
+
+    // A project may already list a new member's id in its team; its membership row and its expand=team
+    // view only pick the member up from here
+    private void addToListingProjects(List<TeamMember> teamMembers) {
+        teamMemberRepository.flush();
+        List<Long> projectIds = teamMemberRepository.addToListingProjects(
+                teamMembers.stream().map(TeamMember::getId).toArray(Long[]::new));
+        if (!projectIds.isEmpty()) {
+            Transactions.afterCommit(() -> projectIds.forEach(projectId -> evict("projectWithTeamById", projectId)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTeamMembers(OutputStream out, ExportFormat format) throws IOException {
+        try (Stream<TeamMember> teamMembers = teamMemberRepository.streamAll();
+             ExportWriter.Sink<TeamMemberResponseDto> sink = exportWriter.open(out, format, CSV_COLUMNS)) {
+            List<TeamMember> chunk = new ArrayList<>(EXPORT_CHUNK);
+            Iterator<TeamMember> iterator = teamMembers.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK || !iterator.hasNext()) {
+                    export(chunk, sink);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    // One translations query per chunk; the chunk is then detached, so the persistence context stays small
+    private void export(List<TeamMember> chunk, ExportWriter.Sink<TeamMemberResponseDto> sink) throws IOException {
+        var translationsByEntityId = translationRepository
+                .findByEntityTypeAndEntityIdIn(ENTITY_TYPE, chunk.stream().map(TeamMember::getId).toList()).stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
+        for (TeamMember teamMember : chunk) {
+            sink.write(teamMemberMapper.toDto(teamMember, translationsByEntityId.getOrDefault(teamMember.getId(), List.of())));
+        }
+        entityManager.clear();
+    }
+
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "teamMemberById", key = "#id")
+    public List<TeamMemberResponseDto> getTeamMembersByIds(List<Long> ids) {
+        // Multi-get from teamMemberById; all misses are then loaded together and cached
+        Cache cache = cacheManager.getCache("teamMemberById");
+        Map<Long, TeamMemberResponseDto> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            TeamMemberResponseDto cached = cache != null ? cache.get(id, TeamMemberResponseDto.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            // Taken before the read: a member evicted while it runs is returned but not cached
+            long epoch = cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache.epoch() : 0;
+            var translationsByEntityId = translationRepository.findByEntityTypeAndEntityIdIn(ENTITY_TYPE, misses)
+                    .stream()
+                    .collect(Collectors.groupingBy(Translation::getEntityId));
+            for (TeamMember teamMember : teamMemberRepository.findAllById(misses)) {
+                TeamMemberResponseDto dto = teamMemberMapper.toDto(
+                        teamMember, translationsByEntityId.getOrDefault(teamMember.getId(), List.of()));
+                // putIfAbsent: an entry another request wrote meanwhile may be newer than this read
+                Cache.ValueWrapper existing = cache instanceof TwoLevelCache twoLevelCache
+                        ? twoLevelCache.putIfAbsent(teamMember.getId(), dto, epoch)
+                        : cache != null ? cache.putIfAbsent(teamMember.getId(), dto) : null;
+                found.put(teamMember.getId(), existing != null && existing.get() instanceof TeamMemberResponseDto current
+                        ? current : dto);
+            }
+        }
+
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "teamMemberById", key = "#id", sync = true)
     public TeamMemberResponseDto getTeamMemberById(Long id) {
-        TeamMember teamMember = teamMemberRepository.findById(id)
-                .orElseThrow(() -> new DbObjectNotFoundException(
-                        HttpStatus.NOT_FOUND,
-                        "TEAM_MEMBER_NOT_FOUND",
-                        "Team member not found with id: " + id
-                ));
+        return loadTeamMember(id);
+    }
 
-        List<Translation> translations = translationRepository.findByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        return teamMemberMapper.toDto(teamMember, translations);
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "teamMembers",
+            key = "T(ai.lab.cair.cache.CacheKeys).filtered(T(ai.lab.cair.cache.CacheKeys).page(#pageable), 'expertise', #expertise)",
+            sync = true)
+    public PaginatedResponse<TeamMemberResponseDto> getAllTeamMembers(Pageable pageable, List<String> expertise) {
+        // Page rows with their translations aggregated in the same statement
+        List<Object[]> rows = findPage(null, expertise, pageable);
+
+        List<TeamMemberResponseDto> content = rows.stream().map(row -> {
+            TeamMember teamMember = (TeamMember) row[0];
+            List<Translation> translations = TranslationRows.parse(ENTITY_TYPE, teamMember.getId(), (String) row[1]);
+            return teamMemberMapper.toDto(teamMember, translations);
+        }).toList();
+
+        long total = countPage(expertise);
+        return new PaginatedResponse<>(new PageImpl<>(content, pageable, total));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<TeamMemberResponseDto> getAllTeamMembers(Pageable pageable) {
-        Page<TeamMember> teamMembersPage = teamMemberRepository.findAll(pageable);
+    @Cacheable(value = "teamMembers", key = "T(ai.lab.cair.cache.CacheKeys).scroll(#cursor, #size)", sync = true)
+    public CursorPage<TeamMemberResponseDto> scrollTeamMembers(PageCursor cursor, int size) {
+        Window<TeamMember> window = scroll(cursor, size);
+
+        var translationsByEntityId = translationRepository.findByEntityTypeAndEntityIdIn(ENTITY_TYPE, ids(window))
+                .stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
 
-        // Batch load all translations to avoid N+1 problem
-        List<Long> memberIds = teamMembersPage.getContent().stream()
-                .map(TeamMember::getId)
+        List<TeamMemberResponseDto> content = window.stream()
+                .map(teamMember -> teamMemberMapper.toDto(
+                        teamMember, translationsByEntityId.getOrDefault(teamMember.getId(), List.of())))
                 .toList();
-        
-        List<Translation> allTranslations = translationRepository
-                .findByEntityTypeAndEntityIdIn(ENTITY_TYPE, memberIds);
-        
-        // Group translations by entity ID for efficient lookup
-        var translationsByEntityId = allTranslations.stream()
-                .collect(java.util.stream.Collectors.groupingBy(Translation::getEntityId));
-
-        Page<TeamMemberResponseDto> responsePage = teamMembersPage.map(teamMember -> {
-            List<Translation> translations = translationsByEntityId
-                    .getOrDefault(teamMember.getId(), List.of());
-            return teamMemberMapper.toDto(teamMember, translations);
-        });
+        return new CursorPage<>(content, size, nextCursor(cursor, window));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedTeamMemberById",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(#id, #language)", sync = true)
+    public LocalizedTeamMemberResponseDto getLocalizedTeamMemberById(Long id, LanguageCode language) {
+        return loadLocalizedTeamMember(id, language);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedTeamMembers",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(T(ai.lab.cair.cache.CacheKeys).filtered("
+                    + "T(ai.lab.cair.cache.CacheKeys).page(#pageable), 'expertise', #expertise), #language)",
+            sync = true)
+    public PaginatedResponse<LocalizedTeamMemberResponseDto> getAllLocalizedTeamMembers(Pageable pageable,
+                                                                                         LanguageCode language,
+                                                                                         List<String> expertise) {
+        // Only the requested language's rows, in the same statement as the page
+        List<Object[]> rows = findPage(language.name(), expertise, pageable);
+
+        List<LocalizedTeamMemberResponseDto> content = rows.stream().map(row -> {
+            TeamMember teamMember = (TeamMember) row[0];
+            List<Translation> translations = TranslationRows.parse(ENTITY_TYPE, teamMember.getId(), (String) row[1]);
+            return teamMemberMapper.toLocalizedDto(teamMember, translations, language);
+        }).toList();
+
+        long total = countPage(expertise);
+        return new PaginatedResponse<>(new PageImpl<>(content, pageable, total));
+    }
 
-        return new PaginatedResponse<>(responsePage);
+    private List<Object[]> findPage(String languageCode, List<String> expertise, Pageable pageable) {
+        Pageable columnSorted = NativeQueries.columnSort(pageable, NativeQueries.TEAM_MEMBER_SORT_COLUMNS);
+        if (expertise.isEmpty()) {
+            return teamMemberRepository.findPageWithTranslations(languageCode, columnSorted);
+        }
+        return teamMemberRepository.findPageWithTranslationsByExpertise(
+                languageCode, expertise.toArray(String[]::new), columnSorted);
+    }
+
+    private long countPage(List<String> expertise) {
+        // Unfiltered totals from the maintained counter instead of a COUNT(*) per page
+        if (expertise.isEmpty()) {
+            return entityCounts.count(EntityCounts.TEAM_MEMBERS);
+        }
+        // Filtered totals count once per filter; the entry goes with the rest of "teamMembers" on any
+        // team member write. Number: a small count comes back from Redis as an Integer
+        return this.<Number>cached("teamMembers", CacheKeys.count("expertise", expertise),
+                () -> teamMemberRepository.countByExpertise(expertise.toArray(String[]::new)))
+                .longValue();
+    }
+
+    private <T> T cached(String cacheName, Object key, Callable<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        try {
+            return cache != null ? cache.get(key, loader) : loader.call();
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "localizedTeamMembers",
+            key = "T(ai.lab.cair.cache.CacheKeys).localized(T(ai.lab.cair.cache.CacheKeys).scroll(#cursor, #size), #language)",
+            sync = true)
+    public CursorPage<LocalizedTeamMemberResponseDto> scrollLocalizedTeamMembers(PageCursor cursor, int size,
+                                                                                 LanguageCode language) {
+        Window<TeamMember> window = scroll(cursor, size);
+
+        var translationsByEntityId = translationRepository
+                .findByEntityTypeAndEntityIdInAndLanguageCode(ENTITY_TYPE, ids(window), language).stream()
+                .collect(Collectors.groupingBy(Translation::getEntityId));
+
+        List<LocalizedTeamMemberResponseDto> content = window.stream()
+                .map(teamMember -> teamMemberMapper.toLocalizedDto(
+                        teamMember, translationsByEntityId.getOrDefault(teamMember.getId(), List.of()), language))
+                .toList();
+        return new CursorPage<>(content, size, nextCursor(cursor, window));
+    }
+
+    private Window<TeamMember> scroll(PageCursor cursor, int size) {
+        if (size < 1 || size > ScrollKeys.MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + ScrollKeys.MAX_SIZE);
+        }
+        return teamMemberRepository.findBy(cursor.position(ScrollKeys.TEAM_MEMBERS), cursor.sort(), Limit.of(size));
+    }
+
+    private static List<Long> ids(Window<TeamMember> window) {
+        return window.stream().map(TeamMember::getId).toList();
+    }
+
+    private static PageCursor nextCursor(PageCursor cursor, Window<TeamMember> window) {
+        if (!window.hasNext()) {
+            return null;
+        }
+        return PageCursor.after(cursor, (KeysetScrollPosition) window.positionAt(window.size() - 1));
+    }
+
+    @Override
+    public Set<String> reloadableCaches() {
+        return Set.of("teamMemberById", "localizedTeamMemberById");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Object reload(String cacheName, Object key) {
+        return switch (cacheName) {
+            case "teamMemberById" -> loadTeamMember(Long.valueOf(String.valueOf(key)));
+            case "localizedTeamMemberById" -> {
+                CacheKeys.Localized localized = CacheKeys.parseLocalized(key);
+                yield loadLocalizedTeamMember(localized.id(), localized.language());
+            }
+            default -> throw new IllegalArgumentException("Cannot reload cache " + cacheName);
+        };
+    }
+
+    private TeamMemberResponseDto loadTeamMember(Long id) {
+        Object[] row = findWithTranslations(id, null);
+        return teamMemberMapper.toDto((TeamMember) row[0], TranslationRows.parse(ENTITY_TYPE, id, (String) row[1]));
+    }
+
+    private LocalizedTeamMemberResponseDto loadLocalizedTeamMember(Long id, LanguageCode language) {
+        Object[] row = findWithTranslations(id, language);
+        return teamMemberMapper.toLocalizedDto(
+                (TeamMember) row[0], TranslationRows.parse(ENTITY_TYPE, id, (String) row[1]), language);
+    }
+
+    // Team member and its translations in one statement instead of two sequential queries
+    private Object[] findWithTranslations(Long id, LanguageCode language) {
+        return teamMemberRepository.findWithTranslationsById(id, language != null ? language.name() : null)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new DbObjectNotFoundException(
+                        HttpStatus.NOT_FOUND,
+                        "TEAM_MEMBER_NOT_FOUND",
+                        "Team member not found with id: " + id
+                ));
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "teamMembers", allEntries = true),
-            @CacheEvict(value = "teamMemberById", key = "#id")
-    })
     public TeamMemberResponseDto updateTeamMember(Long id, TeamMemberRequestDto requestDto) {
         TeamMember teamMember = teamMemberRepository.findById(id)
                 .orElseThrow(() -> new DbObjectNotFoundException(
@@ -103,31 +428,116 @@ public class TeamMemberServiceImpl implements TeamMemberService {
                 ));
 
         teamMemberMapper.updateEntity(teamMember, requestDto);
+        // Bumped even when only translations changed: the ETag is derived from id + updatedAt
+        teamMember.setUpdatedAt(LocalDateTime.now());
         TeamMember updatedTeamMember = teamMemberRepository.save(teamMember);
 
-        translationRepository.deleteByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        List<Translation> translations = teamMemberMapper.createTranslations(id, requestDto);
-        translationRepository.saveAll(translations);
+        // Only changed values are written
+        List<Translation> translations = translationWriter
+                .replace(ENTITY_TYPE, id, teamMemberMapper.createTranslations(id, requestDto))
+                .translations();
+        evictAfterWrite(id);
 
         return teamMemberMapper.toDto(updatedTeamMember, translations);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "teamMembers", allEntries = true),
-            @CacheEvict(value = "teamMemberById", key = "#id")
-    })
-    public void deleteTeamMember(Long id) {
-        if (!teamMemberRepository.existsById(id)) {
-            throw new DbObjectNotFoundException(
-                    HttpStatus.NOT_FOUND,
-                    "TEAM_MEMBER_NOT_FOUND",
-                    "Team member not found with id: " + id
-            );
+    public TeamMemberResponseDto patchTeamMember(Long id, TeamMemberPatchDto patchDto) {
+        TeamMember teamMember = teamMemberRepository.findById(id)
+                .orElseThrow(() -> new DbObjectNotFoundException(
+                        HttpStatus.NOT_FOUND,
+                        "TEAM_MEMBER_NOT_FOUND",
+                        "Team member not found with id: " + id
+                ));
+
+        List<Object> before = state(teamMember);
+        teamMemberMapper.patchEntity(teamMember, patchDto);
+        boolean teamMemberChanged = !before.equals(state(teamMember));
+        TranslationWriter.TranslationChanges changes = translationWriter
+                .patch(ENTITY_TYPE, id, teamMemberMapper.patchTranslations(id, patchDto));
+
+        if (!teamMemberChanged && changes.isEmpty()) {
+            // Nothing to write: the version and every cached copy stay valid
+            return teamMemberMapper.toDto(teamMember, changes.translations());
         }
 
-        translationRepository.deleteByEntityTypeAndEntityId(ENTITY_TYPE, id);
-        teamMemberRepository.deleteById(id);
+        teamMember.setUpdatedAt(LocalDateTime.now());
+        TeamMember patchedTeamMember = teamMemberRepository.save(teamMember);
+
+        // A change to an untranslated field shows in every language; a text change only in its own
+        evictAfterWrite(id, teamMemberChanged ? EnumSet.allOf(LanguageCode.class) : changes.languages());
+
+        return teamMemberMapper.toDto(patchedTeamMember, changes.translations());
+    }
+
+    // Untranslated columns a patch can change
+    private static List<Object> state(TeamMember teamMember) {
+        return Arrays.asList(teamMember.getName(), teamMember.getImage(), teamMember.getExpertise(),
+                teamMember.getEmail(), teamMember.getLinkedin(), teamMember.getGithub(), teamMember.getScholar());
+    }
+
+    // Every cached copy of the team member, in all languages
+    private void evictAfterWrite(Long id) {
+        evictAfterWrite(id, EnumSet.allOf(LanguageCode.class));
+    }
+
+    private void evictAfterWrite(Long id, Set<LanguageCode> languages) {
+        // Read now, inside the write's transaction: expand=team bodies of these projects embed the member
+        List<Long> projectIds = teamMemberRepository.findProjectIds(id);
+        Transactions.afterCommit(() -> {
+            evict("teamMemberById", id);
+            languages.forEach(language -> evict("localizedTeamMemberById", CacheKeys.localized(id, language)));
+            projectIds.forEach(projectId -> evict("projectWithTeamById", projectId));
+            // Any list page may hold the team member
+            clear("teamMembers");
+            clear("localizedTeamMembers");
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // A new row only changes the list pages
+    private void clearListsAfterCommit() {
+        Transactions.afterCommit(() -> {
+            clear("teamMembers");
+            clear("localizedTeamMembers");
+        });
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteTeamMember(Long id) {
+        TeamMemberRepository.DeletedTeamMember deleted = teamMemberRepository.deleteWithTranslations(id)
+                .orElseThrow(() -> new DbObjectNotFoundException(
+                        HttpStatus.NOT_FOUND,
+                        "TEAM_MEMBER_NOT_FOUND",
+                        "Team member not found with id: " + id
+                ));
+        Transactions.afterCommit(() -> {
+            // Holds the cached projects of this team member
+            clear("projects");
+            if (deleted.getProjects() > 0) {
+                // Projects it was taken off now show a different team
+                clear("projectById");
+                clear("localizedProjects");
+                clear("localizedProjectById");
+                clear("projectWithTeamById");
+            }
+        });
+        entityCounts.removed(EntityCounts.TEAM_MEMBERS, null);
+        evictAfterWrite(id);
     }
 }
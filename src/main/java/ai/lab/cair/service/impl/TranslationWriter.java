@@ -0,0 +1,92 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.entity.Translation;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
+import ai.lab.cair.repository.TranslationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes an entity's translations as a diff against the stored rows: unchanged values are not touched,
+ * changed and new ones are upserted one statement each, and (on a full replace) rows the update no
+ * longer carries are deleted in a single statement.
+ */
+@Component
+@RequiredArgsConstructor
+class TranslationWriter {
+    private final TranslationRepository translationRepository;
+
+    // Full update: the given translations become the entity's complete set
+    TranslationChanges replace(String entityType, Long entityId, List<Translation> translations) {
+        return write(entityType, entityId, translations, true);
+    }
+
+    // Partial update: only the given values are written, all other rows are kept
+    TranslationChanges patch(String entityType, Long entityId, List<Translation> translations) {
+        return write(entityType, entityId, translations, false);
+    }
+
+    private TranslationChanges write(String entityType, Long entityId, List<Translation> incoming,
+                                     boolean deleteMissing) {
+        Map<String, Translation> current = new LinkedHashMap<>();
+        for (Translation translation : translationRepository.findByEntityTypeAndEntityId(entityType, entityId)) {
+            current.put(key(translation), translation);
+        }
+
+        Set<TranslationField> fields = EnumSet.noneOf(TranslationField.class);
+        Set<LanguageCode> languages = EnumSet.noneOf(LanguageCode.class);
+        Map<String, Translation> result = new LinkedHashMap<>(current);
+
+        for (Translation translation : incoming) {
+            Translation existing = current.get(key(translation));
+            if (existing != null && existing.getValue().equals(translation.getValue())) {
+                continue;
+            }
+            translationRepository.upsert(entityType, entityId, translation.getFieldName().name(),
+                    translation.getLanguageCode().name(), translation.getValue());
+            result.put(key(translation), translation);
+            fields.add(translation.getFieldName());
+            languages.add(translation.getLanguageCode());
+        }
+
+        if (deleteMissing) {
+            Set<String> kept = new HashSet<>();
+            incoming.forEach(translation -> kept.add(key(translation)));
+            List<Long> stale = new ArrayList<>();
+            current.forEach((key, translation) -> {
+                if (!kept.contains(key)) {
+                    stale.add(translation.getId());
+                    result.remove(key);
+                    fields.add(translation.getFieldName());
+                    languages.add(translation.getLanguageCode());
+                }
+            });
+            if (!stale.isEmpty()) {
+                translationRepository.deleteAllByIdInBatch(stale);
+            }
+        }
+
+        return new TranslationChanges(new ArrayList<>(result.values()), fields, languages);
+    }
+
+    private static String key(Translation translation) {
+        return translation.getFieldName() + ":" + translation.getLanguageCode();
+    }
+
+    // translations: the entity's complete set after the write; fields/languages: what actually changed
+    record TranslationChanges(List<Translation> translations, Set<TranslationField> fields,
+                              Set<LanguageCode> languages) {
+        boolean isEmpty() {
+            return fields.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- liquibase formatted sql
+
+-- changeset liquibase:8
+-- Hand out ids in blocks of 50 (Hibernate pooled optimizer, allocationSize = 50) so inserts can be JDBC-batched.
+-- The sequences created by BIGSERIAL are kept; existing ids stay below the next block.
+ALTER SEQUENCE translations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE team_members_id_seq INCREMENT BY 50;
+
+-- rollback ALTER SEQUENCE translations_id_seq INCREMENT BY 1;
+-- rollback ALTER SEQUENCE projects_id_seq INCREMENT BY 1;
+-- rollback ALTER SEQUENCE team_members_id_seq INCREMENT BY 1;
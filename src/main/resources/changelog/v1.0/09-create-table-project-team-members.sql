@@ -0,0 +1,22 @@
+-- liquibase formatted sql
+
+-- changeset liquibase:9
+-- Project membership as rows instead of the projects.team JSON array, so it can be enforced and looked up
+-- by team member. projects.team stays as the ordered copy the responses are built from.
+CREATE TABLE project_team_members (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    team_member_id BIGINT NOT NULL REFERENCES team_members(id) ON DELETE CASCADE,
+    PRIMARY KEY (project_id, team_member_id)
+);
+
+-- The primary key serves lookups by project; this one the projects of a team member
+CREATE INDEX idx_project_team_members_team_member ON project_team_members(team_member_id, project_id);
+
+-- Existing memberships; ids that no longer match a team member are left out
+INSERT INTO project_team_members (project_id, team_member_id)
+SELECT DISTINCT p.id, m.id
+FROM projects p
+CROSS JOIN LATERAL jsonb_array_elements_text(p.team::jsonb) AS t(team_member_id)
+JOIN team_members m ON m.id::text = t.team_member_id;
+
+-- rollback DROP TABLE IF EXISTS project_team_members;
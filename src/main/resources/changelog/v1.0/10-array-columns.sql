@@ -0,0 +1,31 @@
+-- liquibase formatted sql
+
+-- changeset liquibase:10
+-- tags, team and expertise as TEXT[] instead of JSON arrays in TEXT: mapped natively by Hibernate and
+-- filterable with @> through GIN indexes. The column is rebuilt because ALTER ... USING cannot run the
+-- subquery that unpacks a JSON array.
+ALTER TABLE projects ADD COLUMN tags_array TEXT[], ADD COLUMN team_array TEXT[];
+UPDATE projects SET
+    tags_array = ARRAY(SELECT e FROM jsonb_array_elements_text(tags::jsonb) WITH ORDINALITY AS t(e, i) ORDER BY i),
+    team_array = ARRAY(SELECT e FROM jsonb_array_elements_text(team::jsonb) WITH ORDINALITY AS t(e, i) ORDER BY i);
+ALTER TABLE projects DROP COLUMN tags, DROP COLUMN team;
+ALTER TABLE projects RENAME COLUMN tags_array TO tags;
+ALTER TABLE projects RENAME COLUMN team_array TO team;
+ALTER TABLE projects ALTER COLUMN tags SET NOT NULL, ALTER COLUMN team SET NOT NULL;
+
+ALTER TABLE team_members ADD COLUMN expertise_array TEXT[];
+UPDATE team_members SET
+    expertise_array = ARRAY(SELECT e FROM jsonb_array_elements_text(expertise::jsonb) WITH ORDINALITY AS t(e, i) ORDER BY i);
+ALTER TABLE team_members DROP COLUMN expertise;
+ALTER TABLE team_members RENAME COLUMN expertise_array TO expertise;
+ALTER TABLE team_members ALTER COLUMN expertise SET NOT NULL;
+
+-- For ?tag= and ?expertise=; team lookups go through project_team_members
+CREATE INDEX idx_projects_tags ON projects USING GIN (tags);
+CREATE INDEX idx_team_members_expertise ON team_members USING GIN (expertise);
+
+-- rollback DROP INDEX IF EXISTS idx_projects_tags;
+-- rollback DROP INDEX IF EXISTS idx_team_members_expertise;
+-- rollback ALTER TABLE projects ALTER COLUMN tags TYPE TEXT USING array_to_json(tags)::text;
+-- rollback ALTER TABLE projects ALTER COLUMN team TYPE TEXT USING array_to_json(team)::text;
+-- rollback ALTER TABLE team_members ALTER COLUMN expertise TYPE TEXT USING array_to_json(expertise)::text;
@@ -0,0 +1,32 @@
+-- liquibase formatted sql
+
+-- changeset liquibase:11
+-- Full-text search over the prose fields. Each row is stemmed with its own language's config (KZ has no
+-- Postgres dictionary, so 'simple'); titles and roles weigh most in ts_rank. Objectives and results are
+-- JSON arrays and stay unindexed (NULL).
+ALTER TABLE translations ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    CASE WHEN field_name IN ('TITLE', 'SHORT_DESCRIPTION', 'FULL_DESCRIPTION', 'ROLE', 'BIO') THEN
+        setweight(
+            CASE language_code
+                WHEN 'EN' THEN to_tsvector('english'::regconfig, value)
+                WHEN 'RU' THEN to_tsvector('russian'::regconfig, value)
+                ELSE to_tsvector('simple'::regconfig, value)
+            END,
+            CASE field_name
+                WHEN 'TITLE' THEN 'A'
+                WHEN 'ROLE' THEN 'A'
+                WHEN 'SHORT_DESCRIPTION' THEN 'B'
+                ELSE 'C'
+            END::"char")
+    END
+) STORED;
+
+-- One partial index per language; the search statement carries the language as a literal so they apply
+CREATE INDEX idx_translations_search_en ON translations USING GIN (search_vector) WHERE language_code = 'EN';
+CREATE INDEX idx_translations_search_ru ON translations USING GIN (search_vector) WHERE language_code = 'RU';
+CREATE INDEX idx_translations_search_kz ON translations USING GIN (search_vector) WHERE language_code = 'KZ';
+
+-- rollback DROP INDEX IF EXISTS idx_translations_search_en;
+-- rollback DROP INDEX IF EXISTS idx_translations_search_ru;
+-- rollback DROP INDEX IF EXISTS idx_translations_search_kz;
+-- rollback ALTER TABLE translations DROP COLUMN search_vector;
@@ -0,0 +1,53 @@
+package ai.lab.cair;
+
+import ai.lab.cair.dto.request.ProjectRequestDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// A complete project request: all three languages of every translated field, 15 translations in total
+public final class ProjectRequests {
+    private ProjectRequests() {
+    }
+
+    public static ProjectRequestDto request(String slug) {
+
+        ProjectRequestDto.TitleDto title = new ProjectRequestDto.TitleDto();
+        title.setEn("Title");
+        title.setRu("Название");
+        title.setKz("Атауы");
+
+        ProjectRequestDto.ShortDescriptionDto shortDescription = new ProjectRequestDto.ShortDescriptionDto();
+        shortDescription.setEn("Short");
+        shortDescription.setRu("Кратко");
+        shortDescription.setKz("Қысқа");
+
+        ProjectRequestDto.FullDescriptionDto fullDescription = new ProjectRequestDto.FullDescriptionDto();
+        fullDescription.setEn("Full");
+        fullDescription.setRu("Полно");
+        fullDescription.setKz("Толық");
+
+        ProjectRequestDto.ObjectivesDto objectives = new ProjectRequestDto.ObjectivesDto();
+        objectives.setEn(List.of("Objective"));
+        objectives.setRu(List.of("Цель"));
+        objectives.setKz(List.of("Мақсат"));
+
+        ProjectRequestDto.ResultsDto results = new ProjectRequestDto.ResultsDto();
+        results.setEn(List.of("Result"));
+        results.setRu(List.of("Результат"));
+        results.setKz(List.of("Нәтиже"));
+
+        ProjectRequestDto request = new ProjectRequestDto();
+        request.setSlug(slug);
+        request.setTitle(title);
+        request.setShortDescription(shortDescription);
+        request.setFullDescription(fullDescription);
+        request.setObjectives(objectives);
+        request.setResults(results);
+        request.setTags(List.of("ml"));
+        request.setStatus("active");
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        request.setTeam(List.of("1"));
+        return request;
+    }
+}
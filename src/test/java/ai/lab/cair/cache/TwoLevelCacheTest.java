@@ -0,0 +1,60 @@
+package ai.lab.cair.cache;
+
+import ai.lab.cair.cache.properties.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheTest {
+    private ConcurrentMapCache remote;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheMetrics metrics = mock(CacheMetrics.class);
+        remote = new ConcurrentMapCache("projectById");
+        cache = new TwoLevelCache("projectById", remote, Caffeine.newBuilder().build(),
+                mock(TwoLevelCacheManager.class), metrics,
+                new SingleFlight(mock(StringRedisTemplate.class), new NearCacheProperties(), metrics),
+                null, null, null);
+    }
+
+    @Test
+    void loadRacingAnEvictionIsReturnedButNotCached() {
+        String value = cache.get(1L, () -> {
+            // A write commits and evicts the key while the old row is being read
+            cache.evict(1L);
+            return "old";
+        });
+
+        assertThat(value).isEqualTo("old");
+        assertThat(remote.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    void loadWithoutAnEvictionIsCachedInBothTiers() {
+        cache.get(1L, () -> "value");
+
+        assertThat(remote.get(1L)).isNotNull();
+        assertThat(cache.get(1L, () -> "reloaded")).isEqualTo("value");
+    }
+
+    @Test
+    void putIfAbsentIsSkippedOnceTheEpochMoved() {
+        long epoch = cache.epoch();
+        cache.evict(2L);
+
+        assertThat(cache.putIfAbsent(2L, "old", epoch)).isNull();
+        assertThat(remote.get(2L)).isNull();
+
+        long current = cache.epoch();
+        assertThat(cache.putIfAbsent(2L, "new", current)).isNull();
+        assertThat(cache.get(2L).get()).isEqualTo("new");
+    }
+}
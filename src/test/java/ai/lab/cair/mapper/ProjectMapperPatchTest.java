@@ -0,0 +1,48 @@
+package ai.lab.cair.mapper;
+
+import ai.lab.cair.dto.request.ProjectPatchDto;
+import ai.lab.cair.entity.Project;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProjectMapperPatchTest {
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+
+    @Test
+    void absentNullableFieldsAreKept() {
+        Project project = project();
+
+        projectMapper.patchEntity(project, new ProjectPatchDto());
+
+        assertEquals("image.png", project.getImage());
+        assertEquals(LocalDate.of(2025, 12, 31), project.getEndDate());
+    }
+
+    @Test
+    void explicitNullClearsNullableFields() {
+        Project project = project();
+        ProjectPatchDto patch = new ProjectPatchDto();
+        patch.setImage(null);
+        patch.setEndDate(null);
+
+        projectMapper.patchEntity(project, patch);
+
+        assertNull(project.getImage());
+        assertNull(project.getEndDate());
+        assertEquals("active", project.getStatus());
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setSlug("project");
+        project.setImage("image.png");
+        project.setStatus("active");
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setEndDate(LocalDate.of(2025, 12, 31));
+        return project;
+    }
+}
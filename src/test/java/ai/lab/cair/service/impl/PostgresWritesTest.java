@@ -0,0 +1,120 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.ProjectRequests;
+import ai.lab.cair.dto.response.ProjectResponseDto;
+import ai.lab.cair.exception.DbObjectNotFoundException;
+import ai.lab.cair.repository.ProjectRepository;
+import ai.lab.cair.repository.TranslationRepository;
+import ai.lab.cair.service.ProjectService;
+import ai.lab.cair.service.TeamMemberService;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Write paths that depend on Postgres itself: the data-modifying CTE deletes and the projects_slug_key
+ * constraint, against the Liquibase schema. Skipped where Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "app.cache.warmup.enabled=false",
+        "app.admin.username=admin",
+        "app.admin.password=admin"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresWritesTest {
+    @Container
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:18");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TeamMemberService teamMemberService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @DynamicPropertySource
+    static void connections(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.database", () -> 0);
+        registry.add("spring.data.redis.connect-timeout", () -> "5s");
+    }
+
+    // The application schema, not one generated from the entities: constraint names matter here
+    @BeforeAll
+    static void migrate() throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        liquibase.setChangeLog("classpath:changelog/changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @Test
+    void deletingAMissingProjectIsNotFound() {
+        DbObjectNotFoundException e = assertThrows(DbObjectNotFoundException.class,
+                () -> projectService.deleteProject(Long.MAX_VALUE));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getHttpStatus());
+        assertEquals("PROJECT_NOT_FOUND", e.getError());
+    }
+
+    @Test
+    void deletingAMissingTeamMemberIsNotFound() {
+        DbObjectNotFoundException e = assertThrows(DbObjectNotFoundException.class,
+                () -> teamMemberService.deleteTeamMember(Long.MAX_VALUE));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getHttpStatus());
+    }
+
+    @Test
+    void deletingAProjectRemovesItsTranslations() {
+        ProjectResponseDto project = projectService.createProject(ProjectRequests.request("delete-me"));
+        assertEquals(15, translationRepository.findByEntityTypeAndEntityId("Project", project.getId()).size());
+
+        projectService.deleteProject(project.getId());
+
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+        assertTrue(translationRepository.findByEntityTypeAndEntityId("Project", project.getId()).isEmpty());
+    }
+
+    @Test
+    void aDuplicateSlugIsABadRequest() {
+        projectService.createProject(ProjectRequests.request("taken"));
+
+        // IllegalArgumentException is answered with 400 by GlobalExceptionHandler
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> projectService.createProject(ProjectRequests.request("taken")));
+
+        assertEquals("Project with slug 'taken' already exists", e.getMessage());
+    }
+}
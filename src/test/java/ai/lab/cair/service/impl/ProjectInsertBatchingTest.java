@@ -0,0 +1,91 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.ProjectRequests;
+import ai.lab.cair.cache.EntityCounts;
+import ai.lab.cair.cache.ProjectSlugDirectory;
+import ai.lab.cair.mapper.ProjectMapperImpl;
+import ai.lab.cair.repository.ProjectRepository;
+import ai.lab.cair.repository.TeamMemberRepository;
+import ai.lab.cair.repository.TranslationRepository;
+import ai.lab.cair.service.TeamMemberService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProjectInsertBatchingTest {
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void projectCreateBatchesTranslationInserts() {
+        // The team link is a Postgres-only statement (CTE with ON CONFLICT): stubbed here, and one
+        // more statement on Postgres
+        ProjectRepository projects = mock(ProjectRepository.class, delegatesTo(projectRepository));
+        doNothing().when(projects).replaceTeam(any(), any());
+        ProjectServiceImpl projectService = projectService(projects);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Long id = projectService.createProject(ProjectRequests.request("batching")).getId();
+        entityManager.flush();
+        long inserts = statistics.getEntityInsertCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        verify(projects).replaceTeam(eq(id), any());
+        assertEquals(15, translationRepository.findByEntityTypeAndEntityId("Project", id).size());
+        assertEquals(16, inserts);
+        // One INSERT per table plus the sequence calls (at most two per sequence when its pool is first
+        // initialized); with IDENTITY ids this was 16 INSERTs
+        assertTrue(statements <= 6, "Expected at most 6 statements, got " + statements);
+    }
+
+    // The real write path against the JPA repositories; caches, counters and the slug directory are Redis-side
+    private ProjectServiceImpl projectService(ProjectRepository projects) {
+        return new ProjectServiceImpl(
+                projects,
+                mock(TeamMemberRepository.class),
+                mock(TeamMemberService.class),
+                translationRepository,
+                new ProjectMapperImpl(),
+                mock(EntityCounts.class),
+                new TranslationWriter(translationRepository),
+                mock(CacheManager.class),
+                mock(ProjectSlugDirectory.class),
+                mock(BulkImportReader.class),
+                mock(TransactionTemplate.class),
+                mock(ExportWriter.class),
+                entityManager);
+    }
+}
@@ -0,0 +1,119 @@
+package ai.lab.cair.service.impl;
+
+import ai.lab.cair.entity.Translation;
+import ai.lab.cair.entity.enums.LanguageCode;
+import ai.lab.cair.entity.enums.TranslationField;
+import ai.lab.cair.repository.TranslationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class TranslationWriterTest {
+    private static final String ENTITY_TYPE = "Project";
+    private static final Long ENTITY_ID = 7L;
+
+    private final TranslationRepository translationRepository = mock(TranslationRepository.class);
+    private final TranslationWriter translationWriter = new TranslationWriter(translationRepository);
+
+    @BeforeEach
+    void storedTranslations() {
+        when(translationRepository.findByEntityTypeAndEntityId(ENTITY_TYPE, ENTITY_ID)).thenReturn(List.of(
+                stored(1L, TranslationField.TITLE, LanguageCode.EN, "Title"),
+                stored(2L, TranslationField.TITLE, LanguageCode.RU, "Название"),
+                stored(3L, TranslationField.SHORT_DESCRIPTION, LanguageCode.EN, "Short")));
+    }
+
+    @Test
+    void patchWithUnchangedValuesWritesNothing() {
+        TranslationWriter.TranslationChanges changes = translationWriter.patch(ENTITY_TYPE, ENTITY_ID,
+                List.of(translation(TranslationField.TITLE, LanguageCode.EN, "Title")));
+
+        assertTrue(changes.isEmpty());
+        assertEquals(3, changes.translations().size());
+        verify(translationRepository, never()).upsert(anyString(), anyLong(), anyString(), anyString(), anyString());
+        verify(translationRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void patchUpsertsChangedAndNewValuesAndKeepsTheRest() {
+        TranslationWriter.TranslationChanges changes = translationWriter.patch(ENTITY_TYPE, ENTITY_ID, List.of(
+                translation(TranslationField.TITLE, LanguageCode.EN, "Title"),
+                translation(TranslationField.TITLE, LanguageCode.RU, "Новое название"),
+                translation(TranslationField.TITLE, LanguageCode.KZ, "Атауы")));
+
+        verify(translationRepository).findByEntityTypeAndEntityId(ENTITY_TYPE, ENTITY_ID);
+        verify(translationRepository).upsert(ENTITY_TYPE, ENTITY_ID, "TITLE", "RU", "Новое название");
+        verify(translationRepository).upsert(ENTITY_TYPE, ENTITY_ID, "TITLE", "KZ", "Атауы");
+        verifyNoMoreInteractions(translationRepository);
+
+        assertEquals(Set.of(TranslationField.TITLE), changes.fields());
+        assertEquals(Set.of(LanguageCode.RU, LanguageCode.KZ), changes.languages());
+        // Untouched rows stay in the result, the changed one carries its new value
+        assertEquals(4, changes.translations().size());
+        assertEquals("Новое название", value(changes, TranslationField.TITLE, LanguageCode.RU));
+        assertEquals("Short", value(changes, TranslationField.SHORT_DESCRIPTION, LanguageCode.EN));
+    }
+
+    @Test
+    void replaceDeletesRowsNoLongerPresentInOneStatement() {
+        TranslationWriter.TranslationChanges changes = translationWriter.replace(ENTITY_TYPE, ENTITY_ID,
+                List.of(translation(TranslationField.TITLE, LanguageCode.EN, "Title")));
+
+        verify(translationRepository, never()).upsert(anyString(), anyLong(), anyString(), anyString(), anyString());
+        verify(translationRepository).deleteAllByIdInBatch(List.of(2L, 3L));
+
+        assertEquals(Set.of(TranslationField.TITLE, TranslationField.SHORT_DESCRIPTION), changes.fields());
+        assertEquals(Set.of(LanguageCode.EN, LanguageCode.RU), changes.languages());
+        assertEquals(1, changes.translations().size());
+    }
+
+    @Test
+    void replaceWithTheStoredSetWritesNothing() {
+        TranslationWriter.TranslationChanges changes = translationWriter.replace(ENTITY_TYPE, ENTITY_ID, List.of(
+                translation(TranslationField.TITLE, LanguageCode.EN, "Title"),
+                translation(TranslationField.TITLE, LanguageCode.RU, "Название"),
+                translation(TranslationField.SHORT_DESCRIPTION, LanguageCode.EN, "Short")));
+
+        assertTrue(changes.isEmpty());
+        verify(translationRepository, never()).upsert(anyString(), anyLong(), anyString(), anyString(), anyString());
+        verify(translationRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static String value(TranslationWriter.TranslationChanges changes, TranslationField field,
+                                LanguageCode language) {
+        return changes.translations().stream()
+                .filter(translation -> translation.getFieldName() == field && translation.getLanguageCode() == language)
+                .map(Translation::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Translation stored(Long id, TranslationField field, LanguageCode language, String value) {
+        Translation translation = translation(field, language, value);
+        translation.setId(id);
+        return translation;
+    }
+
+    private static Translation translation(TranslationField field, LanguageCode language, String value) {
+        return Translation.builder()
+                .entityType(ENTITY_TYPE)
+                .entityId(ENTITY_ID)
+                .fieldName(field)
+                .languageCode(language)
+                .value(value)
+                .build();
+    }
+}